@@ -0,0 +1,118 @@
+package Interface;
+
+/**
+ *
+ * 배열 기반 자료구조의 용적 확장/축소 정책 Interface입니다. <br>
+ * ArrayList, Stack 의 resize 과정에서 사용됩니다.
+ *
+ * <p>
+ * 요소 개수가 축소 기준 근처에서 오르내릴 때마다 배열을 다시 할당하는 일을 막기 위해
+ * 축소 기준(shrinkDivisor)과 축소 후 용적(용적의 1/2) 사이에 간격(hysteresis)을 둡니다.
+ * 예로 shrinkDivisor가 4일 경우 요소 개수가 용적의 1/4 미만일 때만 용적을 절반으로 줄이므로,
+ * 축소 직후에는 용적의 절반 가량이 비어있어 곧바로 다시 확장되지 않습니다.
+ *
+ * @author kdgyun
+ *
+ * @version 1.0.001
+ * @since 1.2.0
+ */
+
+public interface GrowthPolicy {
+
+	/**
+	 * 기본 정책입니다. 1.5배씩 확장하고, 요소 개수가 용적의 1/4 미만일 때 절반으로 축소합니다.
+	 */
+	GrowthPolicy DEFAULT = of(1.5, 4, 10);
+
+	/**
+	 * 가득 찬 배열을 확장할 때 새로운 용적을 반환합니다.
+	 * 반환 값은 항상 oldCapacity 보다 크며, 최댓값 제한은 호출하는 쪽에서 처리합니다.
+	 *
+	 * @param oldCapacity 현재 용적
+	 * @return 확장 될 용적
+	 */
+	int grow(int oldCapacity);
+
+	/**
+	 * 요소가 삭제된 뒤 축소할 용적을 반환합니다.
+	 *
+	 * @param capacity 현재 용적
+	 * @param size 현재 요소 개수
+	 * @return 축소 될 용적, 축소하지 않을 경우 capacity를 그대로 반환
+	 */
+	int shrink(int capacity, int size);
+
+	/**
+	 * 빈 배열에 처음 요소를 추가할 때 할당할 최소 용적을 반환합니다.
+	 *
+	 * @return 최소 용적
+	 */
+	int minCapacity();
+
+	/**
+	 * 확장 배율, 축소 기준, 최소 용적을 지정한 정책을 생성합니다.
+	 *
+	 * @param growthFactor 확장 배율 (1 보다 커야 합니다)
+	 * @param shrinkDivisor 요소 개수가 용적의 1/shrinkDivisor 미만일 때 축소합니다.
+	 *                      2 미만일 경우 축소하지 않습니다.
+	 * @param minCapacity 최소 용적 (1 이상)
+	 * @return 생성 된 정책
+	 */
+	static GrowthPolicy of(double growthFactor, int shrinkDivisor, int minCapacity) {
+		return new Ratio(growthFactor, shrinkDivisor, minCapacity);
+	}
+
+	/**
+	 * 1.5배씩 확장하고 축소는 하지 않는 정책을 생성합니다.
+	 *
+	 * @param minCapacity 최소 용적 (1 이상)
+	 * @return 생성 된 정책
+	 */
+	static GrowthPolicy neverShrink(int minCapacity) {
+		return new Ratio(1.5, 0, minCapacity);
+	}
+
+	/**
+	 * {@link GrowthPolicy#of(double, int, int)} 로 생성되는 기본 구현체입니다.
+	 */
+	final class Ratio implements GrowthPolicy {
+
+		private final double growthFactor;
+		private final int shrinkDivisor;
+		private final int minCapacity;
+
+		private Ratio(double growthFactor, int shrinkDivisor, int minCapacity) {
+			if (!(growthFactor > 1.0) || minCapacity < 1) {
+				throw new IllegalArgumentException();
+			}
+			this.growthFactor = growthFactor;
+			this.shrinkDivisor = shrinkDivisor < 2 ? 0 : shrinkDivisor;
+			this.minCapacity = minCapacity;
+		}
+
+		@Override
+		public int grow(int oldCapacity) {
+			long newCapacity = (long) (oldCapacity * growthFactor);
+			if (newCapacity <= oldCapacity) {
+				newCapacity = (long) oldCapacity + 1;
+			}
+			return (int) Math.min(newCapacity, Integer.MAX_VALUE);
+		}
+
+		@Override
+		public int shrink(int capacity, int size) {
+			if (shrinkDivisor == 0 || capacity <= minCapacity) {
+				return capacity;
+			}
+			if (size < capacity / shrinkDivisor) {
+				return Math.max(capacity >>> 1, minCapacity);
+			}
+			return capacity;
+		}
+
+		@Override
+		public int minCapacity() {
+			return minCapacity;
+		}
+	}
+}
@@ -1,10 +1,19 @@
 package _01_ArrayList;
 
+import Interface.GrowthPolicy;
 import Interface.List;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  *
@@ -19,8 +28,6 @@ import java.util.NoSuchElementException;
 
 public class ArrayList<E> implements List<E>, Cloneable, Iterable<E> {
 
-	private static final int DEFAULT_CAPACITY = 10;
-	
     /**
      * @since 1.1.0
      * The maximum length of array to allocate.
@@ -39,22 +46,49 @@ public class ArrayList<E> implements List<E>, Cloneable, Iterable<E> {
 
 	Object[] array;
 
+	/**
+	 * @since 1.2.0
+	 * 용적의 확장/축소 정책
+	 */
+	private final GrowthPolicy policy;
+
+	/**
+	 * @since 1.2.0
+	 * 색인 모드에서 사용하는 값 → 위치 색인, 색인 모드가 아닐 경우 {@code null}
+	 */
+	private PositionIndex index;
+
 	public ArrayList() {
+		this(GrowthPolicy.DEFAULT);
+	}
+
+	public ArrayList(int capacity) {
+		this(capacity, GrowthPolicy.DEFAULT);
+	}
+
+	public ArrayList(GrowthPolicy policy) {
+		if(policy == null) {
+			throw new NullPointerException();
+		}
 		this.array = EMPTY_ARRAY;
 		this.size = 0;
-
+		this.policy = policy;
 	}
 
-	public ArrayList(int capacity) {
+	public ArrayList(int capacity, GrowthPolicy policy) {
 		if(capacity < 0) {
 			throw new IllegalArgumentException();
 		}
+		if(policy == null) {
+			throw new NullPointerException();
+		}
 		if(capacity == 0) {
 			array = EMPTY_ARRAY;
 		} else {
 			array = new Object[capacity];
 		}
 		this.size = 0;
+		this.policy = policy;
 	}
 
 
@@ -63,26 +97,25 @@ public class ArrayList<E> implements List<E>, Cloneable, Iterable<E> {
 
 		// array's capacity = 0
 		if (Arrays.equals(array, EMPTY_ARRAY)) {
-			array = new Object[DEFAULT_CAPACITY];
+			array = new Object[policy.minCapacity()];
 			return;
 		}
 
 		// if array is full
 		if (size == array_capacity) {
 			// default growing 1.5x
-			int new_capacity = hugeRangeCheck(array_capacity, array_capacity + (array_capacity << 1));
+			int new_capacity = hugeRangeCheck(array_capacity, policy.grow(array_capacity));
 
 			// copy
 			array = Arrays.copyOf(array, new_capacity);
 			return;
 		}
 
-		// if array is less than half full
-		if (size < (array_capacity >>> 1)) {
-			int new_capacity = array_capacity >>> 1;
-
+		// if array is sparse enough (default: less than a quarter full)
+		int new_capacity = policy.shrink(array_capacity, size);
+		if (new_capacity < array_capacity) {
 			// copy
-			array = Arrays.copyOf(array, Math.max(new_capacity, DEFAULT_CAPACITY));
+			array = Arrays.copyOf(array, Math.max(new_capacity, size));
 			return;
 		}
 	}
@@ -118,6 +151,109 @@ public class ArrayList<E> implements List<E>, Cloneable, Iterable<E> {
 
 	}
 
+	/**
+	 * 최소 minCapacity 개의 요소를 담을 수 있도록 용적을 한 번에 늘립니다.
+	 * 여러 요소를 한꺼번에 추가할 때 resize가 반복되는 것을 막기 위해 사용합니다.
+	 * 
+	 * @since 1.2.0
+	 * @param minCapacity 필요한 최소 용적
+	 */
+	private void grow(int minCapacity) {
+		if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE) {
+			throw new OutOfMemoryError("Required array length too large");
+		}
+		int array_capacity = array.length;
+		if (minCapacity <= array_capacity) {
+			return;
+		}
+		int new_capacity = Math.max(policy.minCapacity(), policy.grow(array_capacity));
+		if (new_capacity < minCapacity || new_capacity > MAX_ARRAY_SIZE) {
+			new_capacity = minCapacity;
+		}
+		array = Arrays.copyOf(array, new_capacity);
+	}
+
+	/**
+	 * 최소 minCapacity 개의 요소를 재할당 없이 담을 수 있도록 용적을 미리 확보합니다. <br>
+	 * 이후 요소를 삭제할 때에는 정책에 따라 다시 축소될 수 있습니다.
+	 * 
+	 * @since 1.2.0
+	 * @param minCapacity 확보할 최소 용적
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > array.length) {
+			grow(minCapacity);
+		}
+	}
+
+	/**
+	 * 용적을 현재 요소 개수에 맞게 줄입니다.
+	 * 
+	 * @since 1.2.0
+	 */
+	public void trimToSize() {
+		if (size < array.length) {
+			array = (size == 0) ? EMPTY_ARRAY : Arrays.copyOf(array, size);
+		}
+	}
+
+	/**
+	 * 색인 모드를 켭니다. <br>
+	 * 색인 모드에서는 값 → 위치 색인을 함께 유지하므로 {@link #indexOf(Object)}, {@link #lastIndexOf(Object)},
+	 * {@link #contains(Object)}, {@link #remove(Object)}의 위치 탐색이 평균 O(1)에 수행됩니다.
+	 * 끝에 추가하거나 값을 바꾸는 연산은 색인을 즉시 갱신하며, 중간 삽입/삭제로 위치가 밀리는 경우에는
+	 * 밀린 구간만 조회 시에 직접 탐색하거나 다시 색인합니다. 색인에 없는 값의 조회는 항상 O(1) 입니다.
+	 * <p>
+	 * 색인은 요소 당 추가 메모리를 사용하므로 요소가 많고 탐색이 잦은 경우에만 사용하세요.
+	 * 요소의 {@code hashCode}, {@code equals}는 {@link java.util.HashMap}의 키와 같은 조건을 만족해야 합니다.
+	 * 
+	 * @since 1.2.0
+	 */
+	public void enableIndex() {
+		if (index == null) {
+			index = new PositionIndex();
+		}
+	}
+
+	/**
+	 * 색인 모드를 끄고 색인이 사용하던 메모리를 해제합니다.
+	 * 
+	 * @since 1.2.0
+	 */
+	public void disableIndex() {
+		index = null;
+	}
+
+	/**
+	 * @since 1.2.0
+	 * @return 색인 모드일 경우 {@code true}
+	 */
+	public boolean isIndexed() {
+		return index != null;
+	}
+
+	/*
+	 * 색인에 저장된 위치의 총 개수입니다. 색인 모드가 아닐 경우 0 을 반환합니다. ({@link IndexChurnCheck}에서 사용)
+	 */
+	int indexedPositionCount() {
+		return index == null ? 0 : index.storedPositions();
+	}
+
+	private void invalidateIndex(int from) {
+		if (index != null) {
+			index.invalidate(from);
+		}
+	}
+
+	/*
+	 * 색인에 쌓인 틀린 위치가 요소 수에 비해 많아지면 색인을 다시 만듭니다.
+	 */
+	private void trimIndex() {
+		if (index != null) {
+			index.trim(array, size);
+		}
+	}
+
 	@Override
 	public boolean add(E value) {
 		addLast(value);
@@ -129,7 +265,11 @@ public class ArrayList<E> implements List<E>, Cloneable, Iterable<E> {
 			resize();
 		}
 		array[size] = value;
+		if (index != null) {
+			index.onAppend(value, size);
+		}
 		size++;
+		trimIndex();
 
 	}
 
@@ -151,11 +291,13 @@ public class ArrayList<E> implements List<E>, Cloneable, Iterable<E> {
 			resize();
 		}
 
-		for (int i = size; i > index; i--) {
-			array[i] = array[i - 1];
-		}
+		System.arraycopy(array, index, array, index + 1, size - index);
 		array[index] = value;
+		if (this.index != null) {
+			this.index.onInsert(array, index, 1);
+		}
 		size++;
+		trimIndex();
 
 	}
 
@@ -173,20 +315,27 @@ public class ArrayList<E> implements List<E>, Cloneable, Iterable<E> {
 		if (index >= size || index < 0) {
 			throw new IndexOutOfBoundsException();
 		} else {
+			if (this.index != null) {
+				this.index.onSet(index, array[index], value);
+			}
 			array[index] = value;
+			trimIndex();
 		}
 	}
 
 	@Override
 	public int indexOf(Object value) {
+		if(index != null) {
+			return index.indexOf(value, array, size);
+		}
 		if(value == null) {
-			for(int i = 0; i < size; i--) {
+			for(int i = 0; i < size; i++) {
 				if(array[i] == null) {
 					return i;
 				}
 			}
 		} else {
-			for(int i = 0; i < size; i--) {
+			for(int i = 0; i < size; i++) {
 				if(value.equals(array[i])) {
 					return i;
 				}
@@ -196,6 +345,9 @@ public class ArrayList<E> implements List<E>, Cloneable, Iterable<E> {
 	}
 	
 	public int lastIndexOf(Object value) {
+		if(index != null) {
+			return index.lastIndexOf(value, array, size);
+		}
 		if(value == null) {
 			for(int i = size - 1; i >= 0; i--) {
 				if(array[i] == null) {
@@ -226,12 +378,12 @@ public class ArrayList<E> implements List<E>, Cloneable, Iterable<E> {
 		}
 
 		E element = (E) array[index];
-		array[index] = null;
-		for (int i = index; i < size - 1; i++) {
-			array[i] = array[i + 1];
-			array[i + 1] = null;
+		if (this.index != null) {
+			this.index.onRemove(index, element);
 		}
-		size--;
+		System.arraycopy(array, index + 1, array, index, size - index - 1);
+		array[--size] = null;
+		trimIndex();
 		resize();
 		return element;
 	}
@@ -247,6 +399,202 @@ public class ArrayList<E> implements List<E>, Cloneable, Iterable<E> {
 		return true;
 	}
 
+	/**
+	 * 배열의 모든 요소를 리스트의 끝에 추가합니다.
+	 * 
+	 * @since 1.2.0
+	 * @param values 추가할 요소들
+	 * @return 리스트가 변경되었을 경우 {@code true}를 반환
+	 */
+	public boolean addAll(E[] values) {
+		return addAll(size, values);
+	}
+
+	/**
+	 * 배열의 모든 요소를 리스트의 index 위치부터 순서대로 추가합니다. <br>
+	 * 용적은 한 번만 늘어나며, 기존 요소는 {@code System.arraycopy} 한 번으로 이동합니다.
+	 * 
+	 * @since 1.2.0
+	 * @param index 첫 번째 요소가 추가 될 위치
+	 * @param values 추가할 요소들
+	 * @return 리스트가 변경되었을 경우 {@code true}를 반환
+	 */
+	public boolean addAll(int index, E[] values) {
+		if (index > size || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		return insertArray(index, values, values.length);
+	}
+
+	/**
+	 * Iterable의 모든 요소를 리스트의 끝에 추가합니다.
+	 * 
+	 * @since 1.2.0
+	 * @param values 추가할 요소들
+	 * @return 리스트가 변경되었을 경우 {@code true}를 반환
+	 */
+	public boolean addAll(Iterable<? extends E> values) {
+		return addAll(size, values);
+	}
+
+	/**
+	 * Iterable의 모든 요소를 리스트의 index 위치부터 순서대로 추가합니다.
+	 * 
+	 * @since 1.2.0
+	 * @param index 첫 번째 요소가 추가 될 위치
+	 * @param values 추가할 요소들
+	 * @return 리스트가 변경되었을 경우 {@code true}를 반환
+	 */
+	public boolean addAll(int index, Iterable<? extends E> values) {
+		if (index > size || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		Object[] a;
+		if (values instanceof ArrayList) {
+			// 자기 자신을 추가하는 경우에도 안전하도록 복사본을 사용
+			a = ((ArrayList<?>) values).toArray();
+		} else if (values instanceof Collection) {
+			a = ((Collection<?>) values).toArray();
+		} else {
+			ArrayList<E> buffer = new ArrayList<E>();
+			for (E e : values) {
+				buffer.addLast(e);
+			}
+			a = buffer.array;
+			return insertArray(index, a, buffer.size);
+		}
+		return insertArray(index, a, a.length);
+	}
+
+	private boolean insertArray(int index, Object[] a, int count) {
+		if (count == 0) {
+			return false;
+		}
+		grow(size + count);
+		int moved = size - index;
+		if (moved > 0) {
+			System.arraycopy(array, index, array, index + count, moved);
+		}
+		System.arraycopy(a, 0, array, index, count);
+		// 끝에 추가된 경우에는 이전 구간의 색인이 유지되며, 추가된 구간만 다음 조회 때 색인됩니다.
+		if (this.index != null) {
+			this.index.onInsert(array, index, count);
+		}
+		size += count;
+		trimIndex();
+		return true;
+	}
+
+	/**
+	 * fromIndex(포함)부터 toIndex(미포함) 사이의 요소들을 삭제합니다. <br>
+	 * 뒤쪽 요소들은 {@code System.arraycopy} 한 번으로 당겨집니다.
+	 * 
+	 * @since 1.2.0
+	 * @param fromIndex 삭제할 첫 요소의 위치
+	 * @param toIndex 삭제할 마지막 요소의 다음 위치
+	 */
+	public void removeRange(int fromIndex, int toIndex) {
+		if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (fromIndex == toIndex) {
+			return;
+		}
+		if (index != null) {
+			index.onRemoveRange(array, fromIndex, toIndex);
+		}
+		System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+		int newSize = size - (toIndex - fromIndex);
+		for (int i = newSize; i < size; i++) {
+			array[i] = null;
+		}
+		size = newSize;
+		trimIndex();
+		resize();
+	}
+
+	/**
+	 * 조건을 만족하는 모든 요소를 삭제합니다. <br>
+	 * 남는 요소들을 한 번의 순회로 앞쪽에 모으므로 O(N)에 수행됩니다.
+	 * 
+	 * @since 1.2.0
+	 * @param filter 삭제할 요소인 경우 {@code true}를 반환하는 조건
+	 * @return 하나 이상의 요소가 삭제되었을 경우 {@code true}를 반환
+	 */
+	public boolean removeIf(Predicate<? super E> filter) {
+		if (filter == null) {
+			throw new NullPointerException();
+		}
+		return batchRemove(filter, true);
+	}
+
+	/**
+	 * c에 포함되어 있지 않은 요소들을 모두 삭제합니다.
+	 * 
+	 * @since 1.2.0
+	 * @param c 유지할 요소들
+	 * @return 하나 이상의 요소가 삭제되었을 경우 {@code true}를 반환
+	 */
+	public boolean retainAll(Collection<?> c) {
+		if (c == null) {
+			throw new NullPointerException();
+		}
+		return batchRemove(c::contains, false);
+	}
+
+	/**
+	 * c에 포함되어 있는 요소들을 모두 삭제합니다.
+	 * 
+	 * @since 1.2.0
+	 * @param c 삭제할 요소들
+	 * @return 하나 이상의 요소가 삭제되었을 경우 {@code true}를 반환
+	 */
+	public boolean removeAll(Collection<?> c) {
+		if (c == null) {
+			throw new NullPointerException();
+		}
+		return batchRemove(c::contains, true);
+	}
+
+	/*
+	 * test 결과가 removeOnMatch와 같은 요소들은 버리고,
+	 * 나머지 요소들을 순서를 유지한 채 앞으로 압축합니다.
+	 * test 가 예외를 던질 경우, 검사하지 못한 나머지 요소들을 그대로 이어 붙여
+	 * 그때까지 삭제된 요소만 빠진 일관된 상태로 둡니다.
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean batchRemove(Predicate<? super E> test, boolean removeOnMatch) {
+		Object[] data = array;
+		final int end = size;
+		int r = 0;
+		int w = 0;
+		int firstRemoved = end;
+		try {
+			for (; r < end; r++) {
+				if (test.test((E) data[r]) != removeOnMatch) {
+					data[w++] = data[r];
+				} else if (firstRemoved == end) {
+					firstRemoved = r;
+				}
+			}
+		} finally {
+			if (r != end) {
+				System.arraycopy(data, r, data, w, end - r);
+				w += end - r;
+			}
+			if (w != end) {
+				for (int i = w; i < end; i++) {
+					data[i] = null;
+				}
+				invalidateIndex(firstRemoved);
+				size = w;
+				trimIndex();
+				resize();
+			}
+		}
+		return w != end;
+	}
+
 	@Override
 	public boolean isEmpty() {
 		return size == 0;
@@ -262,6 +610,9 @@ public class ArrayList<E> implements List<E>, Cloneable, Iterable<E> {
 		for (int i = 0; i < size; i++) {
 			array[i] = null;
 		}
+		if (index != null) {
+			index.clear();
+		}
 		size = 0;
 		resize();
 	}
@@ -274,6 +625,10 @@ public class ArrayList<E> implements List<E>, Cloneable, Iterable<E> {
 			cloneList.array = new Object[size];
 
 			System.arraycopy(array, 0, cloneList.array, 0, size);
+			if (index != null) {
+				// 색인은 공유하지 않고 처음 조회할 때 새로 만듭니다.
+				cloneList.index = new PositionIndex();
+			}
 
 			return cloneList;
 			
@@ -289,9 +644,113 @@ public class ArrayList<E> implements List<E>, Cloneable, Iterable<E> {
 
 	@SuppressWarnings("unchecked")
 	public void sort(Comparator<? super E> c) {
+		invalidateIndex(0);
 		Arrays.sort((E[]) array, 0, size, c);
 	}
 
+	/**
+	 * 리스트를 병렬로 정렬합니다. <br>
+	 * {@link Arrays#parallelSort(Object[], int, int, Comparator)}를 통해
+	 * 내부 배열을 fork-join 방식의 병합 정렬로 정렬하며, 안정 정렬입니다.
+	 * 
+	 * @since 1.2.0
+	 * @param c 비교 기준, {@code null}일 경우 요소의 자연 순서를 따릅니다.
+	 */
+	@SuppressWarnings("unchecked")
+	public void parallelSort(Comparator<? super E> c) {
+		invalidateIndex(0);
+		Arrays.parallelSort((E[]) array, 0, size, c);
+	}
+
+	/**
+	 * 각 요소의 int 키를 기준으로 오름차순 정렬합니다. <br>
+	 * 키를 한 번만 추출한 뒤 LSD 기수 정렬(radix sort)을 수행하므로 비교 연산이 없으며,
+	 * O(N) 시간과 O(N) 추가 공간을 사용합니다. 키가 같은 요소들의 순서는 유지됩니다.
+	 * 
+	 * @since 1.2.0
+	 * @param keyExtractor 요소에서 정렬 키를 추출하는 함수
+	 */
+	@SuppressWarnings("unchecked")
+	public void sortByIntKey(ToIntFunction<? super E> keyExtractor) {
+		if (keyExtractor == null) {
+			throw new NullPointerException();
+		}
+		int n = size;
+		if (n < 2) {
+			return;
+		}
+		long[] keys = new long[n];
+		for (int i = 0; i < n; i++) {
+			// 부호 비트를 뒤집어 부호 없는 순서가 부호 있는 순서와 같도록 합니다.
+			keys[i] = (keyExtractor.applyAsInt((E) array[i]) ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+		}
+		radixSort(keys, n, Integer.BYTES);
+	}
+
+	/**
+	 * 각 요소의 long 키를 기준으로 오름차순 정렬합니다. <br>
+	 * {@link #sortByIntKey(ToIntFunction)}와 같은 방식의 안정 정렬입니다.
+	 * 
+	 * @since 1.2.0
+	 * @param keyExtractor 요소에서 정렬 키를 추출하는 함수
+	 */
+	@SuppressWarnings("unchecked")
+	public void sortByLongKey(ToLongFunction<? super E> keyExtractor) {
+		if (keyExtractor == null) {
+			throw new NullPointerException();
+		}
+		int n = size;
+		if (n < 2) {
+			return;
+		}
+		long[] keys = new long[n];
+		for (int i = 0; i < n; i++) {
+			keys[i] = keyExtractor.applyAsLong((E) array[i]) ^ Long.MIN_VALUE;
+		}
+		radixSort(keys, n, Long.BYTES);
+	}
+
+	/*
+	 * keys[i] 는 array[i] 의 (부호 없는 값으로 비교되는) 키이며,
+	 * 하위 바이트부터 bytes 개의 바이트에 대해 계수 정렬을 반복합니다.
+	 * 모든 키의 해당 바이트가 같은 경우 그 단계는 건너뜁니다.
+	 */
+	private void radixSort(long[] keys, int n, int bytes) {
+		invalidateIndex(0);
+		Object[] values = array;
+		long[] keyBuffer = new long[n];
+		Object[] valueBuffer = new Object[n];
+		int[] count = new int[257];
+
+		for (int shift = 0; shift < (bytes << 3); shift += 8) {
+			Arrays.fill(count, 0);
+			for (int i = 0; i < n; i++) {
+				count[(int) ((keys[i] >>> shift) & 0xFF) + 1]++;
+			}
+			if (count[(int) ((keys[0] >>> shift) & 0xFF) + 1] == n) {
+				continue;
+			}
+			for (int b = 0; b < 256; b++) {
+				count[b + 1] += count[b];
+			}
+			for (int i = 0; i < n; i++) {
+				int pos = count[(int) ((keys[i] >>> shift) & 0xFF)]++;
+				keyBuffer[pos] = keys[i];
+				valueBuffer[pos] = values[i];
+			}
+			// swap
+			long[] tk = keys;
+			keys = keyBuffer;
+			keyBuffer = tk;
+			Object[] tv = values;
+			values = valueBuffer;
+			valueBuffer = tv;
+		}
+		if (values != array) {
+			System.arraycopy(values, 0, array, 0, n);
+		}
+	}
+
 	public Object[] toArray() {
 		return Arrays.copyOf(array, size);
 	}
@@ -321,6 +780,99 @@ public class ArrayList<E> implements List<E>, Cloneable, Iterable<E> {
 		return new Iter();
 	}
 
+	/**
+	 * 리스트의 요소들을 분할 순회하는 Spliterator를 반환합니다. <br>
+	 * 내부 배열의 범위를 절반씩 나누므로 요소를 복사하지 않고 병렬 처리할 수 있습니다.
+	 * 
+	 * @since 1.2.0
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		return new ArraySpliterator<E>(array, 0, size);
+	}
+
+	/**
+	 * @since 1.2.0
+	 * @return 리스트의 요소들에 대한 순차 스트림
+	 */
+	public Stream<E> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+	/**
+	 * @since 1.2.0
+	 * @return 리스트의 요소들에 대한 병렬 스트림
+	 */
+	public Stream<E> parallelStream() {
+		return StreamSupport.stream(spliterator(), true);
+	}
+
+	/*
+	 * 생성 시점의 배열과 범위 [index, fence)를 기준으로 순회합니다.
+	 * 순회 중 리스트가 변경될 경우의 동작은 보장하지 않습니다.
+	 */
+	private static final class ArraySpliterator<E> implements Spliterator<E> {
+
+		private final Object[] data;
+		private int index;
+		private final int fence;
+
+		ArraySpliterator(Object[] data, int origin, int fence) {
+			this.data = data;
+			this.index = origin;
+			this.fence = fence;
+		}
+
+		@Override
+		public Spliterator<E> trySplit() {
+			int lo = index;
+			int mid = (lo + fence) >>> 1;
+			if (lo >= mid) {
+				return null;
+			}
+			index = mid;
+			return new ArraySpliterator<E>(data, lo, mid);
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public boolean tryAdvance(Consumer<? super E> action) {
+			if (action == null) {
+				throw new NullPointerException();
+			}
+			if (index < fence) {
+				action.accept((E) data[index++]);
+				return true;
+			}
+			return false;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public void forEachRemaining(Consumer<? super E> action) {
+			if (action == null) {
+				throw new NullPointerException();
+			}
+			Object[] a = data;
+			int hi = fence;
+			int i = index;
+			index = hi;
+			for (; i < hi; i++) {
+				action.accept((E) a[i]);
+			}
+		}
+
+		@Override
+		public long estimateSize() {
+			return fence - index;
+		}
+
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+		}
+	}
+
 	private class Iter implements Iterator<E> {
 
 		private int now = 0;
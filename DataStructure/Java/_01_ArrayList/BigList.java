@@ -0,0 +1,428 @@
+package _01_ArrayList;
+
+import Interface.List;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 고정 크기의 배열 조각(segment)들을 이어 붙여 구현한 List 입니다. <br>
+ * 하나의 배열로는 담을 수 없는 {@code Integer.MAX_VALUE}개 이상의 요소를 {@code long} 인덱스로 다룰 수 있으며,
+ * 용적이 부족할 때에는 새 segment 하나만 할당하므로 기존 요소를 복사하지 않습니다.
+ * (segment 를 가리키는 디렉토리 배열만 늘어나며, 이는 요소 수의 1/{@value #SEGMENT_SIZE} 크기입니다.)
+ *
+ * <pre>
+ *  directory : [ seg0 ] [ seg1 ] [ seg2 ] [ null ] ...
+ *                  |        |        |
+ *               [....]   [....]   [..  ]   &lt;- 각 segment 는 SEGMENT_SIZE 크기
+ * </pre>
+ *
+ * 요소가 줄어들면 사용하지 않는 segment 를 해제합니다. 단, 경계에서 추가/삭제가 반복될 때
+ * 할당과 해제가 반복되지 않도록 마지막 segment 다음의 여분 segment 하나는 남겨둡니다.
+ * <p>
+ * {@link List}의 int 인덱스 메소드는 {@code Integer.MAX_VALUE} 범위 안에서만 사용할 수 있으며,
+ * 그 이상의 범위는 {@code long} 인덱스 메소드를 사용해야 합니다.
+ *
+ * @param <E> the type of elements in this list
+ *
+ * @author kdgyun (st-lab.tistory.com)
+ * @version 1.0.001
+ * @since 1.2.0
+ * @see List
+ *
+ */
+
+public class BigList<E> implements List<E>, Cloneable, Iterable<E> {
+
+	private static final int SEGMENT_SHIFT = 12;
+	private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+	private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+	private static final int DEFAULT_DIRECTORY_CAPACITY = 4;
+
+	/**
+	 * 디렉토리 배열의 한계값입니다.
+	 * 자세한 내용은 {@link ArrayList}의 MAX_ARRAY_SIZE를 참고하세요.
+	 */
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+	private Object[][] segments;
+	private int allocated;	// 할당되어 있는 segment 개수
+	private long size;
+
+	public BigList() {
+		this.segments = new Object[DEFAULT_DIRECTORY_CAPACITY][];
+		this.allocated = 0;
+		this.size = 0;
+	}
+
+	private static int segmentOf(long index) {
+		return (int) (index >>> SEGMENT_SHIFT);
+	}
+
+	private static int offsetOf(long index) {
+		return (int) (index & SEGMENT_MASK);
+	}
+
+	/*
+	 * segment 개수가 count 개가 되도록 새 segment 를 할당합니다.
+	 * 기존 segment 는 그대로 두고, 필요한 경우 디렉토리 배열만 확장합니다.
+	 */
+	private void ensureSegments(int count) {
+		if (count <= allocated) {
+			return;
+		}
+		if (count > segments.length) {
+			int oldCapacity = segments.length;
+			int newCapacity = oldCapacity + (oldCapacity >>> 1);
+			if (newCapacity < count || newCapacity > MAX_ARRAY_SIZE) {
+				newCapacity = count;
+			}
+			if (newCapacity > MAX_ARRAY_SIZE) {
+				throw new OutOfMemoryError("Required list size too large");
+			}
+			segments = Arrays.copyOf(segments, newCapacity);
+		}
+		while (allocated < count) {
+			segments[allocated++] = new Object[SEGMENT_SIZE];
+		}
+	}
+
+	/*
+	 * 현재 요소가 사용하는 segment 와 여분 segment 하나를 제외한 나머지를 해제합니다.
+	 */
+	private void releaseSegments() {
+		int used = segmentOf(size + SEGMENT_MASK);
+		int keep = used + 1;
+		while (allocated > keep) {
+			segments[--allocated] = null;
+		}
+		if (segments.length > DEFAULT_DIRECTORY_CAPACITY && allocated < (segments.length >>> 2)) {
+			segments = Arrays.copyOf(segments, Math.max(segments.length >>> 1, DEFAULT_DIRECTORY_CAPACITY));
+		}
+	}
+
+	private void checkIndex(long index) {
+		if (index >= size || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+	}
+
+	@Override
+	public boolean add(E value) {
+		addLast(value);
+		return true;
+	}
+
+	/**
+	 * 리스트의 끝에 요소를 추가합니다. <br>
+	 * 새 segment 가 필요한 경우에도 기존 요소는 복사되지 않습니다.
+	 *
+	 * @param value 추가할 요소
+	 */
+	public void addLast(E value) {
+		if (size == Long.MAX_VALUE) {
+			throw new OutOfMemoryError("Required list size too large");
+		}
+		int seg = segmentOf(size);
+		if (seg >= allocated) {
+			ensureSegments(seg + 1);
+		}
+		segments[seg][offsetOf(size)] = value;
+		size++;
+	}
+
+	public void addFirst(E value) {
+		add(0L, value);
+	}
+
+	@Override
+	public void add(int index, E value) {
+		add((long) index, value);
+	}
+
+	/**
+	 * 리스트의 index 위치에 요소를 추가합니다.
+	 * index 이후의 요소들은 segment 단위로 한 칸씩 뒤로 밀립니다.
+	 *
+	 * @param index 요소를 추가할 위치
+	 * @param value 추가할 요소
+	 */
+	public void add(long index, E value) {
+		if (index > size || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (index == size) {
+			addLast(value);
+			return;
+		}
+		long oldSize = size;
+		ensureSegments(segmentOf(oldSize) + 1);
+
+		int first = segmentOf(index);
+		int last = segmentOf(oldSize);
+		Object carry = value;
+		for (int k = first; k <= last; k++) {
+			Object[] a = segments[k];
+			int start = (k == first) ? offsetOf(index) : 0;
+			if (k < last) {
+				Object out = a[SEGMENT_MASK];
+				System.arraycopy(a, start, a, start + 1, SEGMENT_MASK - start);
+				a[start] = carry;
+				carry = out;
+			} else {
+				System.arraycopy(a, start, a, start + 1, offsetOf(oldSize) - start);
+				a[start] = carry;
+			}
+		}
+		size++;
+	}
+
+	@Override
+	public E get(int index) {
+		return get((long) index);
+	}
+
+	@SuppressWarnings("unchecked")
+	public E get(long index) {
+		checkIndex(index);
+		return (E) segments[segmentOf(index)][offsetOf(index)];
+	}
+
+	@Override
+	public void set(int index, E value) {
+		set((long) index, value);
+	}
+
+	public void set(long index, E value) {
+		checkIndex(index);
+		segments[segmentOf(index)][offsetOf(index)] = value;
+	}
+
+	@Override
+	public E remove(int index) {
+		return removeAt(index);
+	}
+
+	/**
+	 * 리스트의 index 위치에 있는 요소를 삭제합니다.
+	 * index 이후의 요소들은 segment 단위로 한 칸씩 앞으로 당겨집니다.
+	 * <p>
+	 * {@code remove(Long)} 호출이 {@link #remove(Object)}로 해석되는 것을 피하기 위해
+	 * {@code remove(long)} 대신 별도의 이름을 사용합니다.
+	 *
+	 * @param index 삭제할 위치
+	 * @return 삭제된 요소
+	 */
+	@SuppressWarnings("unchecked")
+	public E removeAt(long index) {
+		checkIndex(index);
+		int first = segmentOf(index);
+		int last = segmentOf(size - 1);
+		E element = (E) segments[first][offsetOf(index)];
+
+		for (int k = first; k <= last; k++) {
+			Object[] a = segments[k];
+			int start = (k == first) ? offsetOf(index) : 0;
+			if (k < last) {
+				System.arraycopy(a, start + 1, a, start, SEGMENT_MASK - start);
+				a[SEGMENT_MASK] = segments[k + 1][0];
+			} else {
+				int end = offsetOf(size - 1);
+				System.arraycopy(a, start + 1, a, start, end - start);
+				a[end] = null;
+			}
+		}
+		size--;
+		releaseSegments();
+		return element;
+	}
+
+	/**
+	 * 리스트의 마지막 요소를 삭제합니다. 요소를 이동하지 않으므로 O(1)입니다.
+	 *
+	 * @return 삭제된 요소
+	 */
+	@SuppressWarnings("unchecked")
+	public E removeLast() {
+		if (size == 0) {
+			throw new NoSuchElementException();
+		}
+		long last = size - 1;
+		Object[] a = segments[segmentOf(last)];
+		E element = (E) a[offsetOf(last)];
+		a[offsetOf(last)] = null;
+		size = last;
+		releaseSegments();
+		return element;
+	}
+
+	@Override
+	public boolean remove(Object value) {
+		long index = longIndexOf(value);
+		if (index == -1) {
+			return false;
+		}
+		removeAt(index);
+		return true;
+	}
+
+	/**
+	 * 리스트의 앞에서부터 newSize 개의 요소만 남기고 나머지를 삭제합니다. <br>
+	 * 비게 된 segment 들은 통째로 해제됩니다.
+	 *
+	 * @param newSize 남길 요소 개수
+	 */
+	public void truncate(long newSize) {
+		if (newSize < 0 || newSize > size) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (newSize == size) {
+			return;
+		}
+		int first = segmentOf(newSize);
+		int last = segmentOf(size - 1);
+		int keep = Math.min(segmentOf(newSize + SEGMENT_MASK), last);
+		// 해제되지 않고 남는 segment 에 있는 참조만 정리
+		for (int k = first; k <= keep; k++) {
+			int start = (k == first) ? offsetOf(newSize) : 0;
+			int end = (k == last) ? offsetOf(size - 1) + 1 : SEGMENT_SIZE;
+			Arrays.fill(segments[k], start, end, null);
+		}
+		size = newSize;
+		releaseSegments();
+	}
+
+	/**
+	 * 리스트에 특정 요소가 몇 번째 위치에 있는지를 반환합니다.
+	 *
+	 * @param value 리스트에서 위치를 찾을 요소 변수
+	 * @return 처음으로 일치하는 위치, 일치하는 요소가 없을경우 -1 을 반환
+	 */
+	public long longIndexOf(Object value) {
+		long index = 0;
+		for (int k = 0; index < size; k++) {
+			Object[] a = segments[k];
+			int len = (int) Math.min(SEGMENT_SIZE, size - index);
+			for (int i = 0; i < len; i++) {
+				if (value == null ? a[i] == null : value.equals(a[i])) {
+					return index + i;
+				}
+			}
+			index += len;
+		}
+		return -1;
+	}
+
+	/**
+	 * 리스트에 특정 요소가 몇 번째 위치에 있는지를 반환합니다.
+	 *
+	 * @param value 리스트에서 위치를 찾을 요소 변수
+	 * @return 처음으로 일치하는 위치, 일치하는 요소가 없을경우 -1 을 반환
+	 * @throws ArithmeticException 위치가 int 범위를 넘을 경우
+	 */
+	@Override
+	public int indexOf(Object value) {
+		return Math.toIntExact(longIndexOf(value));
+	}
+
+	@Override
+	public boolean contains(Object value) {
+		return longIndexOf(value) >= 0;
+	}
+
+	/**
+	 * 리스트에 있는 요소의 개수를 반환합니다.
+	 * 요소의 개수가 int 범위를 넘을 경우 {@code Integer.MAX_VALUE}를 반환하므로
+	 * 정확한 개수는 {@link #longSize()}를 사용하세요.
+	 */
+	@Override
+	public int size() {
+		return (int) Math.min(size, Integer.MAX_VALUE);
+	}
+
+	public long longSize() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public void clear() {
+		truncate(0);
+	}
+
+	@Override
+	public Object clone() {
+		try {
+			BigList<?> cloneList = (BigList<?>) super.clone();
+			cloneList.segments = new Object[segments.length][];
+			int used = segmentOf(size + SEGMENT_MASK);
+			for (int k = 0; k < used; k++) {
+				cloneList.segments[k] = segments[k].clone();
+			}
+			cloneList.allocated = used;
+			return cloneList;
+		} catch (CloneNotSupportedException e) {
+			throw new Error(e);
+		}
+	}
+
+	/**
+	 * @return 리스트의 모든 요소를 담은 배열
+	 * @throws OutOfMemoryError 요소의 개수가 하나의 배열에 담을 수 있는 범위를 넘을 경우
+	 */
+	public Object[] toArray() {
+		if (size > MAX_ARRAY_SIZE) {
+			throw new OutOfMemoryError("Required array length too large");
+		}
+		Object[] array = new Object[(int) size];
+		int copied = 0;
+		for (int k = 0; copied < size; k++) {
+			int len = (int) Math.min(SEGMENT_SIZE, size - copied);
+			System.arraycopy(segments[k], 0, array, copied, len);
+			copied += len;
+		}
+		return array;
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new Iter();
+	}
+
+	private class Iter implements Iterator<E> {
+
+		private long now = 0;
+		private Object[] segment;
+
+		@Override
+		public boolean hasNext() {
+			return now < size;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public E next() {
+			long cs = now;
+			if (cs >= size) {
+				throw new NoSuchElementException();
+			}
+			int off = offsetOf(cs);
+			if (off == 0 || segment == null) {
+				segment = segments[segmentOf(cs)];
+			}
+			now = cs + 1;
+			return (E) segment[off];
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+}
@@ -0,0 +1,325 @@
+package _01_ArrayList;
+
+import Interface.List;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * 읽기 위주로 여러 스레드가 공유하는 경우를 위한 copy-on-write 방식의 ArrayList 입니다. <br>
+ * 요소를 변경하는 모든 연산은 내부 배열의 복사본을 수정한 뒤 volatile 참조를 통해
+ * 새 배열을 공개(publish)합니다. 한 번 공개된 배열은 다시 수정되지 않으므로
+ * 읽기 연산과 반복자는 잠금 없이 해당 시점의 스냅샷을 순회합니다.
+ * <p>
+ * 변경 연산은 매번 O(N)의 복사가 발생하므로 변경이 잦은 경우에는 {@link ArrayList}를 사용하세요.
+ *
+ * @param <E> the type of elements in this list
+ *
+ * @author kdgyun (st-lab.tistory.com)
+ * @version 1.0.001
+ * @since 1.2.0
+ * @see List
+ * @see ArrayList
+ *
+ */
+
+public class CopyOnWriteArrayList<E> implements List<E>, Cloneable, Iterable<E> {
+
+	/**
+	 * 확장 가능한 용적의 한계값입니다.
+	 * 자세한 내용은 {@link ArrayList}의 MAX_ARRAY_SIZE를 참고하세요.
+	 */
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+	private static final Object[] EMPTY_ARRAY = {};
+
+	/*
+	 * 변경 연산끼리의 상호 배제를 위한 잠금 객체입니다.
+	 * 읽기 연산은 이 잠금을 사용하지 않습니다.
+	 */
+	private transient Object lock = new Object();
+
+	/*
+	 * 항상 요소 개수와 길이가 같은 배열이며, 공개된 이후에는 수정되지 않습니다.
+	 */
+	private volatile Object[] array;
+
+	public CopyOnWriteArrayList() {
+		this.array = EMPTY_ARRAY;
+	}
+
+	public CopyOnWriteArrayList(E[] values) {
+		this.array = Arrays.copyOf(values, values.length, Object[].class);
+	}
+
+	/**
+	 * 복사 후의 배열 길이가 {@link #MAX_ARRAY_SIZE}를 초과하지 않는지 검사합니다.
+	 *
+	 * @param oldLength 현재 배열의 길이
+	 * @param addLength 추가 할 요소 개수
+	 * @return 새 배열의 길이
+	 */
+	private static int hugeRangeCheck(int oldLength, int addLength) {
+		if (MAX_ARRAY_SIZE - oldLength < addLength) {
+			throw new OutOfMemoryError("Required array length too large");
+		}
+		return oldLength + addLength;
+	}
+
+	@Override
+	public boolean add(E value) {
+		addLast(value);
+		return true;
+	}
+
+	public void addLast(E value) {
+		synchronized (lock) {
+			Object[] a = array;
+			Object[] newArray = Arrays.copyOf(a, hugeRangeCheck(a.length, 1));
+			newArray[a.length] = value;
+			array = newArray;
+		}
+	}
+
+	public void addFirst(E value) {
+		add(0, value);
+	}
+
+	@Override
+	public void add(int index, E value) {
+		synchronized (lock) {
+			Object[] a = array;
+			int len = a.length;
+			if (index > len || index < 0) {
+				throw new IndexOutOfBoundsException();
+			}
+			Object[] newArray = new Object[hugeRangeCheck(len, 1)];
+			System.arraycopy(a, 0, newArray, 0, index);
+			System.arraycopy(a, index, newArray, index + 1, len - index);
+			newArray[index] = value;
+			array = newArray;
+		}
+	}
+
+	/**
+	 * 리스트에 요소가 없을 경우에만 요소를 추가합니다.
+	 *
+	 * @param value 리스트에 추가할 요소
+	 * @return 요소가 추가되었을 경우 {@code true}, 이미 존재할 경우 {@code false}를 반환
+	 */
+	public boolean addIfAbsent(E value) {
+		synchronized (lock) {
+			Object[] a = array;
+			if (indexOf(value, a) >= 0) {
+				return false;
+			}
+			Object[] newArray = Arrays.copyOf(a, hugeRangeCheck(a.length, 1));
+			newArray[a.length] = value;
+			array = newArray;
+			return true;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public E get(int index) {
+		Object[] a = array;
+		if (index >= a.length || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		return (E) a[index];
+	}
+
+	@Override
+	public void set(int index, E value) {
+		synchronized (lock) {
+			Object[] a = array;
+			if (index >= a.length || index < 0) {
+				throw new IndexOutOfBoundsException();
+			}
+			Object[] newArray = a.clone();
+			newArray[index] = value;
+			array = newArray;
+		}
+	}
+
+	private static int indexOf(Object value, Object[] a) {
+		if (value == null) {
+			for (int i = 0; i < a.length; i++) {
+				if (a[i] == null) {
+					return i;
+				}
+			}
+		} else {
+			for (int i = 0; i < a.length; i++) {
+				if (value.equals(a[i])) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public int indexOf(Object value) {
+		return indexOf(value, array);
+	}
+
+	public int lastIndexOf(Object value) {
+		Object[] a = array;
+		if (value == null) {
+			for (int i = a.length - 1; i >= 0; i--) {
+				if (a[i] == null) {
+					return i;
+				}
+			}
+		} else {
+			for (int i = a.length - 1; i >= 0; i--) {
+				if (value.equals(a[i])) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public boolean contains(Object value) {
+		return indexOf(value) >= 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public E remove(int index) {
+		synchronized (lock) {
+			Object[] a = array;
+			int len = a.length;
+			if (index >= len || index < 0) {
+				throw new IndexOutOfBoundsException();
+			}
+			E element = (E) a[index];
+			array = removeAt(a, index);
+			return element;
+		}
+	}
+
+	@Override
+	public boolean remove(Object value) {
+		synchronized (lock) {
+			Object[] a = array;
+			int index = indexOf(value, a);
+			if (index == -1) {
+				return false;
+			}
+			array = removeAt(a, index);
+			return true;
+		}
+	}
+
+	private static Object[] removeAt(Object[] a, int index) {
+		int len = a.length;
+		if (len == 1) {
+			return EMPTY_ARRAY;
+		}
+		Object[] newArray = new Object[len - 1];
+		System.arraycopy(a, 0, newArray, 0, index);
+		System.arraycopy(a, index + 1, newArray, index, len - index - 1);
+		return newArray;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return array.length == 0;
+	}
+
+	@Override
+	public int size() {
+		return array.length;
+	}
+
+	@Override
+	public void clear() {
+		synchronized (lock) {
+			array = EMPTY_ARRAY;
+		}
+	}
+
+	@Override
+	public Object clone() {
+		try {
+			@SuppressWarnings("unchecked")
+			CopyOnWriteArrayList<E> cloneList = (CopyOnWriteArrayList<E>) super.clone();
+			// 배열은 불변이므로 공유해도 안전하지만, 잠금은 따로 사용해야 합니다.
+			cloneList.lock = new Object();
+			return cloneList;
+		} catch (CloneNotSupportedException e) {
+			throw new Error(e);
+		}
+	}
+
+	public Object[] toArray() {
+		Object[] a = array;
+		return Arrays.copyOf(a, a.length);
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> T[] toArray(T[] a) {
+		Object[] snapshot = array;
+		int len = snapshot.length;
+		if (a.length < len)
+			return (T[]) Arrays.copyOf(snapshot, len, a.getClass());
+
+		System.arraycopy(snapshot, 0, a, 0, len);
+		if (a.length > len)
+			a[len] = null;
+		return a;
+	}
+
+	/**
+	 * 호출 시점의 스냅샷을 순회하는 반복자를 반환합니다.
+	 * 이후의 변경은 반복자에 반영되지 않으며, 순회 중 예외가 발생하지 않습니다.
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return new Iter(array);
+	}
+
+	@Override
+	public Spliterator<E> spliterator() {
+		return Spliterators.spliterator(array, Spliterator.IMMUTABLE | Spliterator.ORDERED);
+	}
+
+	private class Iter implements Iterator<E> {
+
+		private final Object[] snapshot;
+		private int now = 0;
+
+		Iter(Object[] snapshot) {
+			this.snapshot = snapshot;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return now < snapshot.length;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public E next() {
+			int cs = now;
+			if (cs >= snapshot.length) {
+				throw new NoSuchElementException();
+			}
+			now = cs + 1;
+			return (E) snapshot[cs];
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+}
@@ -0,0 +1,302 @@
+package _01_ArrayList;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * double 원시 타입 전용 ArrayList 입니다. <br>
+ * {@link ArrayList}와 동일한 방식으로 동작하지만 내부 배열을 {@code double[]}로 두어
+ * 요소를 추가하거나 조회할 때 박싱(boxing)이 발생하지 않습니다.
+ *
+ * @author kdgyun (st-lab.tistory.com)
+ * @version 1.0.001
+ * @since 1.2.0
+ * @see ArrayList
+ *
+ */
+
+public class DoubleArrayList implements Cloneable {
+
+	private static final int DEFAULT_CAPACITY = 10;
+
+	/**
+	 * 확장 가능한 용적의 한계값입니다.
+	 * 자세한 내용은 {@link ArrayList}의 MAX_ARRAY_SIZE를 참고하세요.
+	 */
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+	private static final double[] EMPTY_ARRAY = {};
+	private int size;
+
+	double[] array;
+
+	public DoubleArrayList() {
+		this.array = EMPTY_ARRAY;
+		this.size = 0;
+	}
+
+	public DoubleArrayList(int capacity) {
+		if(capacity < 0) {
+			throw new IllegalArgumentException();
+		}
+		if(capacity == 0) {
+			array = EMPTY_ARRAY;
+		} else {
+			array = new double[capacity];
+		}
+		this.size = 0;
+	}
+
+	private void resize() {
+		int array_capacity = array.length;
+
+		// array's capacity = 0
+		if (array_capacity == 0) {
+			array = new double[DEFAULT_CAPACITY];
+			return;
+		}
+
+		// if array is full
+		if (size == array_capacity) {
+			// default growing 1.5x (at least one more slot for small capacities)
+			int new_capacity = hugeRangeCheck(array_capacity, Math.max(array_capacity + 1, array_capacity + (array_capacity >>> 1)));
+
+			// copy
+			array = Arrays.copyOf(array, new_capacity);
+			return;
+		}
+
+		// if array is less than half full (arrays at or below the default capacity are never shrunk)
+		if (array_capacity > DEFAULT_CAPACITY && size < (array_capacity >>> 1)) {
+			int new_capacity = array_capacity >>> 1;
+
+			// copy
+			array = Arrays.copyOf(array, Math.max(new_capacity, DEFAULT_CAPACITY));
+			return;
+		}
+	}
+
+	/**
+	 * resizing 할 때 overflow를 방지하기 위한 체크 함수입니다.
+	 * 용적은 {@link #MAX_ARRAY_SIZE}를 초과 할 수 없습니다.
+	 *
+	 * @param oldCapacity resize 하기 전의 용적
+	 * @param newCapacity resize 하고자 하는 용적
+	 * @return 최종 크기를 반환합니다.
+	 */
+	private int hugeRangeCheck(int oldCapacity, int newCapacity) {
+		if (MAX_ARRAY_SIZE - size <= 0) { // fully elements in array
+			throw new OutOfMemoryError("Required array length too large");
+		}
+		// not overflow
+		if(newCapacity >= 0) {
+			if(newCapacity - MAX_ARRAY_SIZE <= 0) {
+				return newCapacity;
+			}
+			return MAX_ARRAY_SIZE;
+		}
+		// newCapacity is overflow
+		else {
+			int fiveFourthsSize = oldCapacity + (oldCapacity >>> 2);
+			if(fiveFourthsSize <= 0 || fiveFourthsSize >= MAX_ARRAY_SIZE) {
+				return MAX_ARRAY_SIZE;
+			}
+			return fiveFourthsSize;
+		}
+	}
+
+	public boolean add(double value) {
+		addLast(value);
+		return true;
+	}
+
+	public void addLast(double value) {
+		if (size == array.length) {
+			resize();
+		}
+		array[size] = value;
+		size++;
+	}
+
+	public void addFirst(double value) {
+		add(0, value);
+	}
+
+	public void add(int index, double value) {
+		if (index > size || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (index == size) {
+			addLast(value);
+			return;
+		}
+
+		if (size == array.length) {
+			resize();
+		}
+
+		System.arraycopy(array, index, array, index + 1, size - index);
+		array[index] = value;
+		size++;
+	}
+
+	public double get(int index) {
+		if (index >= size || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		return array[index];
+	}
+
+	public void set(int index, double value) {
+		if (index >= size || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		array[index] = value;
+	}
+
+	/**
+	 * 리스트에 특정 요소가 몇 번째 위치에 있는지를 반환합니다. <br>
+	 * {@link Double#equals(Object)}와 동일하게 NaN 끼리는 같은 값으로,
+	 * 0.0 과 -0.0 은 서로 다른 값으로 비교합니다.
+	 *
+	 * @param value 리스트에서 위치를 찾을 요소 변수
+	 * @return 처음으로 일치하는 위치, 일치하는 요소가 없을경우 -1 을 반환
+	 */
+	public int indexOf(double value) {
+		for(int i = 0; i < size; i++) {
+			if(Double.compare(array[i], value) == 0) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public int lastIndexOf(double value) {
+		for(int i = size - 1; i >= 0; i--) {
+			if(Double.compare(array[i], value) == 0) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public boolean contains(double value) {
+		return indexOf(value) >= 0;
+	}
+
+	/**
+	 * 리스트의 index 위치에 있는 요소를 삭제합니다.
+	 *
+	 * @param index 리스트에서 삭제 할 위치 변수
+	 * @return 삭제된 요소를 반환
+	 */
+	public double remove(int index) {
+		if (index >= size || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		double element = array[index];
+		System.arraycopy(array, index + 1, array, index, size - index - 1);
+		size--;
+		resize();
+		return element;
+	}
+
+	/**
+	 * 리스트에서 특정 요소를 삭제합니다. <br>
+	 * {@link #remove(int)}와의 혼동을 피하기 위해 이름을 구분하였습니다.
+	 *
+	 * @param value 리스트에서 삭제할 요소
+	 * @return 삭제에 성공할 경우 {@code true}, 그 외의 경우 {@code false}를 반환
+	 */
+	public boolean removeValue(double value) {
+		int index = indexOf(value);
+		if (index == -1) {
+			return false;
+		}
+		remove(index);
+		return true;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public void clear() {
+		size = 0;
+		resize();
+	}
+
+	@Override
+	public Object clone() {
+		try {
+			DoubleArrayList cloneList = (DoubleArrayList) super.clone();
+			cloneList.array = Arrays.copyOf(array, size);
+			return cloneList;
+		} catch (CloneNotSupportedException e) {
+			throw new Error(e);
+		}
+	}
+
+	public void sort() {
+		Arrays.sort(array, 0, size);
+	}
+
+	public double[] toArray() {
+		return Arrays.copyOf(array, size);
+	}
+
+	/**
+	 * 리스트의 모든 요소를 순서대로 action에 전달합니다. <br>
+	 * 반복자 객체를 생성하지 않으며, 박싱 또한 발생하지 않습니다.
+	 *
+	 * @param action 각 요소에 수행할 동작
+	 */
+	public void forEach(DoubleConsumer action) {
+		if (action == null) {
+			throw new NullPointerException();
+		}
+		double[] data = array;
+		int len = size;
+		for (int i = 0; i < len; i++) {
+			action.accept(data[i]);
+		}
+	}
+
+	public PrimitiveIterator.OfDouble iterator() {
+		return new Iter();
+	}
+
+	private class Iter implements PrimitiveIterator.OfDouble {
+
+		private int now = 0;
+
+		@Override
+		public boolean hasNext() {
+			return now < size;
+		}
+
+		@Override
+		public double nextDouble() {
+			int cs = now;
+			if (cs >= size) {
+				throw new NoSuchElementException();
+			}
+			double[] data = DoubleArrayList.this.array;
+			now = cs + 1;
+			return data[cs];
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+}
@@ -0,0 +1,302 @@
+package _01_ArrayList;
+
+import Interface.GrowthPolicy;
+import Interface.List;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 갭 버퍼(gap buffer)로 구현한 List 입니다. <br>
+ * 내부 배열 중간에 비어있는 구간(gap)을 두고, 마지막으로 수정한 위치에 gap을 유지합니다.
+ * 따라서 커서 주변에서 반복되는 삽입/삭제는 O(1)이며, gap을 옮길 때에만 이동 거리만큼의
+ * 요소가 {@code System.arraycopy}로 이동합니다. {@link #get(int)}은 항상 O(1)입니다.
+ *
+ * <pre>
+ *  논리 인덱스 :  0   1   2               3   4
+ *  buffer     : [a] [b] [c] [ ] [ ] [ ] [d] [e]
+ *                            ^gapStart   ^gapEnd
+ * </pre>
+ *
+ * @param <E> the type of elements in this list
+ *
+ * @author kdgyun (st-lab.tistory.com)
+ * @version 1.0.001
+ * @since 1.2.0
+ * @see List
+ *
+ */
+
+public class GapBufferList<E> implements List<E>, Cloneable, Iterable<E> {
+
+	/**
+	 * 확장 가능한 용적의 한계값입니다.
+	 * 자세한 내용은 {@link ArrayList}의 MAX_ARRAY_SIZE를 참고하세요.
+	 */
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+	private static final Object[] EMPTY_ARRAY = {};
+
+	private Object[] buffer;
+	private int gapStart;	// gap의 첫 위치
+	private int gapEnd;		// gap 다음의 첫 요소 위치 (gap 미포함)
+
+	private final GrowthPolicy policy;
+
+	public GapBufferList() {
+		this(GrowthPolicy.DEFAULT);
+	}
+
+	public GapBufferList(GrowthPolicy policy) {
+		if(policy == null) {
+			throw new NullPointerException();
+		}
+		this.buffer = EMPTY_ARRAY;
+		this.gapStart = 0;
+		this.gapEnd = 0;
+		this.policy = policy;
+	}
+
+	/*
+	 * 논리 인덱스를 실제 배열 인덱스로 변환합니다.
+	 */
+	private int physical(int index) {
+		return index < gapStart ? index : index + (gapEnd - gapStart);
+	}
+
+	/*
+	 * gap의 시작 위치를 index로 옮깁니다.
+	 * 이동하는 요소 수는 |index - gapStart| 입니다.
+	 */
+	private void moveGap(int index) {
+		if (index == gapStart) {
+			return;
+		}
+		if (index < gapStart) {
+			int n = gapStart - index;
+			System.arraycopy(buffer, index, buffer, gapEnd - n, n);
+			// 새 gap 에 남은 이전 참조 제거
+			Arrays.fill(buffer, index, Math.min(gapStart, gapEnd - n), null);
+			gapStart = index;
+			gapEnd -= n;
+		} else {
+			int n = index - gapStart;
+			System.arraycopy(buffer, gapEnd, buffer, gapStart, n);
+			Arrays.fill(buffer, Math.max(gapEnd, gapStart + n), gapEnd + n, null);
+			gapStart += n;
+			gapEnd += n;
+		}
+	}
+
+	/*
+	 * gap 을 유지한 채 용적을 newCapacity로 바꿉니다.
+	 */
+	private void resize(int newCapacity) {
+		int tailLength = buffer.length - gapEnd;
+		Object[] newBuffer = new Object[newCapacity];
+		System.arraycopy(buffer, 0, newBuffer, 0, gapStart);
+		System.arraycopy(buffer, gapEnd, newBuffer, newCapacity - tailLength, tailLength);
+		buffer = newBuffer;
+		gapEnd = newCapacity - tailLength;
+	}
+
+	private void growIfFull() {
+		if (gapStart != gapEnd) {
+			return;
+		}
+		int capacity = buffer.length;
+		if (capacity == 0) {
+			resize(policy.minCapacity());
+			return;
+		}
+		if (MAX_ARRAY_SIZE - capacity <= 0) {
+			throw new OutOfMemoryError("Required array length too large");
+		}
+		int newCapacity = policy.grow(capacity);
+		if (newCapacity < 0 || newCapacity > MAX_ARRAY_SIZE) {
+			newCapacity = MAX_ARRAY_SIZE;
+		}
+		resize(newCapacity);
+	}
+
+	private void shrinkIfSparse() {
+		int capacity = buffer.length;
+		int newCapacity = policy.shrink(capacity, size());
+		if (newCapacity < capacity) {
+			resize(Math.max(newCapacity, size()));
+		}
+	}
+
+	@Override
+	public boolean add(E value) {
+		addLast(value);
+		return true;
+	}
+
+	public void addLast(E value) {
+		add(size(), value);
+	}
+
+	public void addFirst(E value) {
+		add(0, value);
+	}
+
+	@Override
+	public void add(int index, E value) {
+		if (index > size() || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		moveGap(index);
+		growIfFull();
+		buffer[gapStart++] = value;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public E get(int index) {
+		if (index >= size() || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		return (E) buffer[physical(index)];
+	}
+
+	@Override
+	public void set(int index, E value) {
+		if (index >= size() || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		buffer[physical(index)] = value;
+	}
+
+	@Override
+	public int indexOf(Object value) {
+		int size = size();
+		if (value == null) {
+			for (int i = 0; i < size; i++) {
+				if (buffer[physical(i)] == null) {
+					return i;
+				}
+			}
+		} else {
+			for (int i = 0; i < size; i++) {
+				if (value.equals(buffer[physical(i)])) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+	public int lastIndexOf(Object value) {
+		if (value == null) {
+			for (int i = size() - 1; i >= 0; i--) {
+				if (buffer[physical(i)] == null) {
+					return i;
+				}
+			}
+		} else {
+			for (int i = size() - 1; i >= 0; i--) {
+				if (value.equals(buffer[physical(i)])) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public boolean contains(Object value) {
+		return indexOf(value) >= 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public E remove(int index) {
+		if (index >= size() || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		moveGap(index);
+		E element = (E) buffer[gapEnd];
+		buffer[gapEnd++] = null;
+		shrinkIfSparse();
+		return element;
+	}
+
+	@Override
+	public boolean remove(Object value) {
+		int index = indexOf(value);
+		if (index == -1) {
+			return false;
+		}
+		remove(index);
+		return true;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	@Override
+	public int size() {
+		return buffer.length - (gapEnd - gapStart);
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(buffer, null);
+		gapStart = 0;
+		gapEnd = buffer.length;
+		shrinkIfSparse();
+	}
+
+	@Override
+	public Object clone() {
+		try {
+			GapBufferList<?> cloneList = (GapBufferList<?>) super.clone();
+			cloneList.buffer = buffer.clone();
+			return cloneList;
+		} catch (CloneNotSupportedException e) {
+			throw new Error(e);
+		}
+	}
+
+	public Object[] toArray() {
+		Object[] a = new Object[size()];
+		System.arraycopy(buffer, 0, a, 0, gapStart);
+		System.arraycopy(buffer, gapEnd, a, gapStart, buffer.length - gapEnd);
+		return a;
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new Iter();
+	}
+
+	private class Iter implements Iterator<E> {
+
+		private int now = 0;
+
+		@Override
+		public boolean hasNext() {
+			return now < size();
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public E next() {
+			int cs = now;
+			if (cs >= size()) {
+				throw new NoSuchElementException();
+			}
+			now = cs + 1;
+			return (E) buffer[physical(cs)];
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+}
@@ -0,0 +1,90 @@
+package _01_ArrayList;
+
+import java.util.Random;
+
+/**
+ * 색인 모드의 {@link ArrayList}에서 추가/삭제가 반복될 때
+ * 색인에 저장된 위치의 수가 요소 수에 비례하는 범위 안에 머무르는지 확인합니다. <br>
+ * 중간 삭제, 구간 삭제, 조건 삭제, 값 변경, 조회를 무작위로 섞어 실행하며,
+ * 매 연산 후 저장된 위치의 수가 요소 수의 두 배(와 작은 여분)를 넘으면 {@link AssertionError}를 던집니다.
+ * 같은 값만 담은 리스트와 서로 다른 값이 섞인 리스트를 모두 확인합니다.
+ * <p>
+ * 사용법: {@code java _01_ArrayList.IndexChurnCheck [연산 횟수]}
+ *
+ * @author kdgyun (st-lab.tistory.com)
+ * @version 1.0.001
+ * @since 1.2.0
+ * @see ArrayList#enableIndex()
+ *
+ */
+
+public class IndexChurnCheck {
+
+	/*
+	 * PositionIndex 가 색인을 다시 만들기 전까지 허용하는 여분보다 조금 크게 잡습니다.
+	 */
+	private static final int SLACK = 32;
+
+	public static void main(String[] args) {
+		int ops = (args.length > 0) ? Integer.parseInt(args[0]) : 1_000_000;
+
+		for (int distinct : new int[] { 1, 7, 1_000 }) {
+			ArrayList<Integer> list = new ArrayList<Integer>();
+			list.enableIndex();
+			Random random = new Random(distinct);
+			int maxStored = 0;
+
+			for (int i = 0; i < ops; i++) {
+				Integer value = random.nextInt(distinct);
+				int size = list.size();
+				switch (random.nextInt(10)) {
+				case 0:
+				case 1:
+				case 2:
+					list.add(value);
+					break;
+				case 3:
+					list.add(random.nextInt(size + 1), value);
+					break;
+				case 4:
+				case 5:
+					if (size > 0) {
+						list.remove(random.nextInt(size));
+					}
+					break;
+				case 6:
+					if (size > 0) {
+						int from = random.nextInt(size);
+						list.removeRange(from, Math.min(size, from + random.nextInt(4)));
+					}
+					break;
+				case 7:
+					if (size > 0) {
+						list.set(random.nextInt(size), value);
+					}
+					break;
+				case 8:
+					if (random.nextInt(64) == 0) {
+						int target = value;
+						list.removeIf(x -> x == target);
+					} else {
+						list.contains(value);
+					}
+					break;
+				default:
+					list.lastIndexOf(value);
+					break;
+				}
+
+				int stored = list.indexedPositionCount();
+				if (stored > 2 * list.size() + SLACK) {
+					throw new AssertionError("distinct = " + distinct + ", op = " + i + ": "
+							+ stored + " positions for " + list.size() + " elements");
+				}
+				maxStored = Math.max(maxStored, stored);
+			}
+			System.out.println("distinct = " + distinct + ", size = " + list.size()
+					+ ", positions = " + list.indexedPositionCount() + ", max positions = " + maxStored);
+		}
+	}
+}
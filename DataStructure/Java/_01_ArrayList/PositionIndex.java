@@ -0,0 +1,344 @@
+package _01_ArrayList;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link ArrayList}의 색인 모드에서 사용하는 값 → 위치 다중 맵(multimap)입니다. <br>
+ * 각 값에 대해 그 값이 있는 위치들을 오름차순으로 저장합니다.
+ * 위치가 하나뿐인 값은 {@code Integer}로, 둘 이상인 값은 {@link IntArrayList}로 저장하여
+ * 중복이 없는 리스트에서의 메모리 사용을 줄입니다.
+ * <p>
+ * 요소가 중간에서 삽입/삭제되어 위치가 밀리는 경우 모든 위치를 즉시 고치지 않고,
+ * 정확한 구간의 끝({@code validUpTo})만 앞으로 당겨둡니다. 그 뒤의 구간(dirty range)은
+ * 조회한 값을 그 구간에서 찾아야 할 때 직접 탐색하며, 탐색한 양이 구간의 길이만큼 쌓이면 한 번에 다시 색인합니다.
+ * 따라서 저장된 위치 중에는 더 이상 맞지 않는 것이 있을 수 있으며, 조회 시 {@code array[pos]}와
+ * 비교하여 확인하고 틀린 위치는 그 자리에서 제거합니다.
+ * <p>
+ * 리스트에 있는 모든 값은 (위치가 정확하지 않더라도) 항상 맵에 항목을 가지므로,
+ * 맵에 없는 값의 조회는 다시 색인하지 않고 바로 -1 을 반환합니다.
+ * <p>
+ * 조회되지 않는 값의 틀린 위치는 제거되지 않고 남으므로, 저장된 위치의 수가
+ * 요소 수의 두 배를 넘으면 색인 전체를 다시 만들어 메모리 사용을 요소 수에 비례하도록 유지합니다.
+ *
+ * @author kdgyun (st-lab.tistory.com)
+ * @version 1.0.003
+ * @since 1.2.0
+ * @see ArrayList
+ *
+ */
+
+class PositionIndex {
+
+	private final Map<Object, Object> positions = new HashMap<Object, Object>();
+
+	/*
+	 * [0, validUpTo) 구간의 요소들은 모두 색인에 기록되어 있습니다.
+	 * 그 이후 구간(dirty range)의 위치 정보는 없거나 틀릴 수 있습니다.
+	 */
+	private int validUpTo = 0;
+
+	/*
+	 * 마지막으로 다시 색인한 이후 dirty range 를 직접 탐색한 요소의 수입니다.
+	 * 이 값이 dirty range 의 길이에 이르면 탐색 대신 다시 색인합니다.
+	 */
+	private int dirtyScans = 0;
+
+	/*
+	 * 맵에 저장된 위치의 총 개수입니다. (틀린 위치 포함)
+	 */
+	private int stored = 0;
+
+	/*
+	 * 요소 수가 적을 때 색인을 너무 자주 다시 만들지 않도록 허용하는 여분입니다.
+	 */
+	private static final int TRIM_SLACK = 16;
+
+	/**
+	 * from 이후의 위치 정보를 무효화합니다.
+	 */
+	void invalidate(int from) {
+		if (from < validUpTo) {
+			validUpTo = from;
+		}
+	}
+
+	void clear() {
+		positions.clear();
+		validUpTo = 0;
+		dirtyScans = 0;
+		stored = 0;
+	}
+
+	/**
+	 * @return 맵에 저장된 위치의 총 개수 (틀린 위치 포함)
+	 */
+	int storedPositions() {
+		return stored;
+	}
+
+	/**
+	 * 저장된 위치의 수가 요소 수(size)의 두 배를 넘으면 색인을 처음부터 다시 만듭니다.
+	 * 다시 만드는 비용은 O(size)이며, 그 사이에 쌓인 틀린 위치의 수에 비례하므로 연산 당 분할 상환 O(1) 입니다.
+	 */
+	void trim(Object[] array, int size) {
+		if (stored - size > size + TRIM_SLACK) {
+			clear();
+			refresh(array, size);
+		}
+	}
+
+	/**
+	 * 리스트의 끝(pos)에 value가 추가되었음을 반영합니다.
+	 */
+	void onAppend(Object value, int pos) {
+		if (validUpTo == pos) {
+			append(value, pos);
+			validUpTo = pos + 1;
+		} else {
+			insertPosition(value, pos);
+		}
+	}
+
+	/**
+	 * array[from, from + count) 에 요소들이 삽입되었음을 반영합니다.
+	 * 삽입된 위치 이후는 무효화되지만, 삽입된 값들은 맵에 항목을 가지도록 기록합니다.
+	 */
+	void onInsert(Object[] array, int from, int count) {
+		invalidate(from);
+		for (int i = from; i < from + count; i++) {
+			insertPosition(array[i], i);
+		}
+	}
+
+	/**
+	 * pos 위치의 요소 value 가 삭제되었음을 반영합니다. (요소들이 밀리기 전에 호출합니다)
+	 */
+	void onRemove(int pos, Object value) {
+		if (pos < validUpTo) {
+			removePosition(value, pos);
+		}
+		invalidate(pos);
+	}
+
+	/**
+	 * array[from, to) 의 요소들이 삭제되었음을 반영합니다. (요소들이 밀리기 전에 호출합니다)
+	 */
+	void onRemoveRange(Object[] array, int from, int to) {
+		for (int i = from; i < to && i < validUpTo; i++) {
+			removePosition(array[i], i);
+		}
+		invalidate(from);
+	}
+
+	/**
+	 * pos 위치의 요소가 oldValue에서 newValue로 바뀌었음을 반영합니다.
+	 */
+	void onSet(int pos, Object oldValue, Object newValue) {
+		if (pos < validUpTo) {
+			removePosition(oldValue, pos);
+		}
+		insertPosition(newValue, pos);
+	}
+
+	int indexOf(Object value, Object[] array, int size) {
+		int found = find(value, array, validUpTo, false);
+		if (found >= 0 || validUpTo == size || !positions.containsKey(value)) {
+			return found;
+		}
+		// dirty range 는 요소를 하나씩 비교하는 편이 다시 색인하는 것보다 싸므로,
+		// 탐색한 양이 구간의 길이만큼 쌓였을 때만 다시 색인합니다.
+		if (dirtyScans < size - validUpTo) {
+			for (int i = validUpTo; i < size; i++) {
+				if (matches(array[i], value)) {
+					dirtyScans += i - validUpTo + 1;
+					return i;
+				}
+			}
+			dirtyScans += size - validUpTo;
+			return -1;
+		}
+		refresh(array, size);
+		return find(value, array, size, false);
+	}
+
+	int lastIndexOf(Object value, Object[] array, int size) {
+		if (!positions.containsKey(value)) {
+			return -1;
+		}
+		refresh(array, size);
+		return find(value, array, size, true);
+	}
+
+	private static boolean matches(Object element, Object value) {
+		return value == null ? element == null : value.equals(element);
+	}
+
+	/*
+	 * value 의 위치 중 limit 미만이며 실제로 value 가 있는 첫 번째(last 일 경우 마지막) 위치를 찾습니다.
+	 * 찾는 동안 확인에 실패한 위치들은 제거합니다.
+	 */
+	private int find(Object value, Object[] array, int limit, boolean last) {
+		Object p = positions.get(value);
+		if (p == null) {
+			return -1;
+		}
+		if (p instanceof Integer) {
+			int q = (Integer) p;
+			if (q >= limit) {
+				return -1;
+			}
+			if (matches(array[q], value)) {
+				return q;
+			}
+			positions.remove(value);
+			stored--;
+			return -1;
+		}
+		IntArrayList list = (IntArrayList) p;
+		int[] a = list.array;
+		int n = list.size();
+		int found = -1;
+		int junkFrom;
+		int junkTo;
+		if (last) {
+			int r = n;
+			while (r > 0 && a[r - 1] >= limit) {
+				r--;
+			}
+			junkTo = r;
+			while (r > 0 && !matches(array[a[r - 1]], value)) {
+				r--;
+			}
+			if (r > 0) {
+				found = a[r - 1];
+			}
+			junkFrom = r;
+		} else {
+			int r = 0;
+			while (r < n && a[r] < limit && !matches(array[a[r]], value)) {
+				r++;
+			}
+			if (r < n && a[r] < limit) {
+				found = a[r];
+			}
+			junkFrom = 0;
+			junkTo = r;
+		}
+		if (junkFrom < junkTo) {
+			list.removeRange(junkFrom, junkTo);
+			stored -= junkTo - junkFrom;
+			normalize(value, list);
+		}
+		return found;
+	}
+
+	/*
+	 * [validUpTo, size) 구간을 다시 색인합니다. (다시 색인하는 비용은 이 구간의 길이에 비례합니다)
+	 */
+	private void refresh(Object[] array, int size) {
+		for (int i = validUpTo; i < size; i++) {
+			append(array[i], i);
+		}
+		validUpTo = size;
+		dirtyScans = 0;
+		trim(array, size);
+	}
+
+	/*
+	 * pos 를 value 의 마지막 위치로 기록합니다.
+	 * pos 이상인 기존 위치들은 무효화된 구간의 것이므로 먼저 제거합니다.
+	 */
+	private void append(Object value, int pos) {
+		Object p = positions.get(value);
+		if (p == null) {
+			positions.put(value, pos);
+			stored++;
+		} else if (p instanceof Integer) {
+			int q = (Integer) p;
+			if (q >= pos) {
+				positions.put(value, pos);
+			} else {
+				IntArrayList list = new IntArrayList(2);
+				list.addLast(q);
+				list.addLast(pos);
+				positions.put(value, list);
+				stored++;
+			}
+		} else {
+			IntArrayList list = (IntArrayList) p;
+			int slot = Arrays.binarySearch(list.array, 0, list.size(), pos);
+			if (slot < 0) {
+				slot = -(slot + 1);
+			}
+			if (slot < list.size()) {
+				stored -= list.size() - slot;
+				list.removeRange(slot, list.size());
+			}
+			list.addLast(pos);
+			stored++;
+			normalize(value, list);
+		}
+	}
+
+	/*
+	 * 오름차순을 유지하며 임의의 pos를 추가합니다. 이미 있는 위치는 추가하지 않습니다.
+	 */
+	private void insertPosition(Object value, int pos) {
+		Object p = positions.get(value);
+		if (p == null) {
+			positions.put(value, pos);
+			stored++;
+			return;
+		}
+		IntArrayList list;
+		if (p instanceof Integer) {
+			if ((Integer) p == pos) {
+				return;
+			}
+			list = new IntArrayList(2);
+			list.addLast((Integer) p);
+			positions.put(value, list);
+		} else {
+			list = (IntArrayList) p;
+		}
+		int slot = Arrays.binarySearch(list.array, 0, list.size(), pos);
+		if (slot < 0) {
+			list.add(-(slot + 1), pos);
+			stored++;
+		}
+	}
+
+	private void removePosition(Object value, int pos) {
+		Object p = positions.get(value);
+		if (p == null) {
+			return;
+		}
+		if (p instanceof Integer) {
+			if ((Integer) p == pos) {
+				positions.remove(value);
+				stored--;
+			}
+			return;
+		}
+		IntArrayList list = (IntArrayList) p;
+		int slot = Arrays.binarySearch(list.array, 0, list.size(), pos);
+		if (slot >= 0) {
+			list.remove(slot);
+			stored--;
+			normalize(value, list);
+		}
+	}
+
+	/*
+	 * 위치가 하나 이하로 줄어든 목록을 Integer 로 바꾸거나 항목을 제거합니다.
+	 */
+	private void normalize(Object value, IntArrayList list) {
+		if (list.size() == 0) {
+			positions.remove(value);
+		} else if (list.size() == 1) {
+			positions.put(value, list.get(0));
+		}
+	}
+}
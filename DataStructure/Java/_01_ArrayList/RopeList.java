@@ -0,0 +1,505 @@
+package _01_ArrayList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import Interface.List;
+
+/**
+ * 균형 이진 트리(AVL)의 단말 노드(leaf)에 요소 배열을 두는 리스트(rope)입니다. <br>
+ * 각 노드는 하위 트리의 요소 개수(size)를 가지고 있어 위치로 단말 노드를 찾아 내려갈 수 있으며,
+ * 트리의 높이가 O(log N)으로 유지되므로 위치 기반의 {@link #get(int)}, {@link #set(int, Object)},
+ * {@link #add(int, Object)}, {@link #remove(int)}는 모두 O(log N)에 수행됩니다.
+ * <p>
+ * 단말 노드는 최대 {@code LEAF_CAPACITY}개의 요소를 연속된 배열로 담으며, 가득 찬 단말 노드에
+ * 요소를 추가하면 절반으로 나눕니다. 두 리스트를 잇는 {@link #splice(RopeList)}와
+ * 리스트를 나누는 {@link #splitAt(int)}도 요소를 복사하지 않고 트리를 재구성하여 O(log N)에 수행됩니다.
+ *
+ * @param <E> the type of elements in this list
+ *
+ * @author kdgyun (st-lab.tistory.com)
+ * @version 1.0.001
+ * @since 1.2.0
+ * @see List
+ * @see ArrayList
+ *
+ */
+
+public class RopeList<E> implements List<E>, Iterable<E>, Cloneable {
+
+	private static final int LEAF_CAPACITY = 64;
+
+	/*
+	 * items 가 null 이 아니면 단말 노드이며, items[0, size) 에 요소가 있습니다. (height == 0)
+	 * 그렇지 않으면 내부 노드이며, left 와 right 는 항상 null 이 아닙니다.
+	 */
+	private static final class Node {
+		Object[] items;
+		Node left;
+		Node right;
+		int size;
+		int height;
+
+		Node(Object[] items, int size) {
+			this.items = items;
+			this.size = size;
+		}
+
+		Node(Node left, Node right) {
+			this.left = left;
+			this.right = right;
+			update(this);
+		}
+
+		boolean isLeaf() {
+			return items != null;
+		}
+	}
+
+	private Node root;
+
+	public RopeList() {
+		this.root = null;
+	}
+
+	private static int height(Node n) {
+		return n == null ? -1 : n.height;
+	}
+
+	private static int size(Node n) {
+		return n == null ? 0 : n.size;
+	}
+
+	private static void update(Node n) {
+		n.size = n.left.size + n.right.size;
+		n.height = Math.max(n.left.height, n.right.height) + 1;
+	}
+
+	private static Node rotateRight(Node n) {
+		Node l = n.left;
+		n.left = l.right;
+		update(n);
+		l.right = n;
+		update(l);
+		return l;
+	}
+
+	private static Node rotateLeft(Node n) {
+		Node r = n.right;
+		n.right = r.left;
+		update(n);
+		r.left = n;
+		update(r);
+		return r;
+	}
+
+	/*
+	 * 자식의 높이를 갱신한 뒤, 두 자식의 높이 차가 2 인 경우 회전으로 균형을 맞춥니다.
+	 */
+	private static Node balance(Node n) {
+		update(n);
+		int diff = n.left.height - n.right.height;
+		if (diff > 1) {
+			if (height(n.left.left) < height(n.left.right)) {
+				n.left = rotateLeft(n.left);
+			}
+			return rotateRight(n);
+		}
+		if (diff < -1) {
+			if (height(n.right.right) < height(n.right.left)) {
+				n.right = rotateRight(n.right);
+			}
+			return rotateLeft(n);
+		}
+		return n;
+	}
+
+	/*
+	 * a 의 모든 요소 뒤에 b 의 모든 요소가 오도록 두 트리를 잇습니다.
+	 * 높은 쪽 트리의 가장자리를 따라 높이가 비슷한 곳까지 내려가 연결하므로 O(|높이 차| + 1) 입니다.
+	 */
+	private static Node join(Node a, Node b) {
+		if (a == null) {
+			return b;
+		}
+		if (b == null) {
+			return a;
+		}
+		if (a.height > b.height + 1) {
+			a.right = join(a.right, b);
+			return balance(a);
+		}
+		if (b.height > a.height + 1) {
+			b.left = join(a, b.left);
+			return balance(b);
+		}
+		if (a.isLeaf() && b.isLeaf() && a.size + b.size <= LEAF_CAPACITY) {
+			System.arraycopy(b.items, 0, a.items, a.size, b.size);
+			a.size += b.size;
+			return a;
+		}
+		return new Node(a, b);
+	}
+
+	/*
+	 * 트리를 앞의 index 개 요소와 나머지 요소의 두 트리로 나눕니다. ({왼쪽, 오른쪽})
+	 */
+	private static Node[] split(Node n, int index) {
+		if (index == 0) {
+			return new Node[] { null, n };
+		}
+		if (index == n.size) {
+			return new Node[] { n, null };
+		}
+		if (n.isLeaf()) {
+			int moved = n.size - index;
+			Object[] items = new Object[LEAF_CAPACITY];
+			System.arraycopy(n.items, index, items, 0, moved);
+			Arrays.fill(n.items, index, n.size, null);
+			n.size = index;
+			return new Node[] { n, new Node(items, moved) };
+		}
+		int leftSize = n.left.size;
+		if (index < leftSize) {
+			Node[] parts = split(n.left, index);
+			parts[1] = join(parts[1], n.right);
+			return parts;
+		}
+		if (index == leftSize) {
+			return new Node[] { n.left, n.right };
+		}
+		Node[] parts = split(n.right, index - leftSize);
+		parts[0] = join(n.left, parts[0]);
+		return parts;
+	}
+
+	/*
+	 * 정렬된 배열 a[from, to) 로부터 균형 잡힌 트리를 만듭니다.
+	 */
+	private static Node build(Object[] a, int from, int to) {
+		int n = to - from;
+		if (n == 0) {
+			return null;
+		}
+		if (n <= LEAF_CAPACITY) {
+			Object[] items = new Object[LEAF_CAPACITY];
+			System.arraycopy(a, from, items, 0, n);
+			return new Node(items, n);
+		}
+		int leaves = (n + LEAF_CAPACITY - 1) / LEAF_CAPACITY;
+		int mid = from + (leaves / 2) * LEAF_CAPACITY;
+		return new Node(build(a, from, mid), build(a, mid, to));
+	}
+
+	/*
+	 * index 번째 요소가 있는 단말 노드를 찾습니다. index 는 단말 노드 내의 위치로 바뀌어 offset[0] 에 저장됩니다.
+	 */
+	private Node leafAt(int index, int[] offset) {
+		if (index >= size() || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		Node x = root;
+		while (!x.isLeaf()) {
+			if (index < x.left.size) {
+				x = x.left;
+			} else {
+				index -= x.left.size;
+				x = x.right;
+			}
+		}
+		offset[0] = index;
+		return x;
+	}
+
+	private static Node insert(Node n, int index, Object value) {
+		if (n.isLeaf()) {
+			if (n.size < LEAF_CAPACITY) {
+				System.arraycopy(n.items, index, n.items, index + 1, n.size - index);
+				n.items[index] = value;
+				n.size++;
+				return n;
+			}
+			// 가득 찬 단말 노드는 절반으로 나눈 뒤 삽입
+			Node[] parts = split(n, LEAF_CAPACITY >>> 1);
+			if (index <= parts[0].size) {
+				insert(parts[0], index, value);
+			} else {
+				insert(parts[1], index - parts[0].size, value);
+			}
+			return new Node(parts[0], parts[1]);
+		}
+		if (index <= n.left.size) {
+			n.left = insert(n.left, index, value);
+		} else {
+			n.right = insert(n.right, index - n.left.size, value);
+		}
+		return balance(n);
+	}
+
+	/*
+	 * index 번째 요소를 삭제하고 바뀐 하위 트리를 반환합니다. (비게 될 경우 null)
+	 * 삭제된 요소는 removed[0] 에 저장됩니다.
+	 */
+	private static Node delete(Node n, int index, Object[] removed) {
+		if (n.isLeaf()) {
+			removed[0] = n.items[index];
+			System.arraycopy(n.items, index + 1, n.items, index, n.size - index - 1);
+			n.items[--n.size] = null;
+			return n.size == 0 ? null : n;
+		}
+		if (index < n.left.size) {
+			n.left = delete(n.left, index, removed);
+			if (n.left == null) {
+				return n.right;
+			}
+		} else {
+			n.right = delete(n.right, index - n.left.size, removed);
+			if (n.right == null) {
+				return n.left;
+			}
+		}
+		// 요소가 적어진 두 단말 노드는 하나로 합침
+		if (n.left.isLeaf() && n.right.isLeaf() && n.left.size + n.right.size <= (LEAF_CAPACITY >>> 1)) {
+			return join(n.left, n.right);
+		}
+		return balance(n);
+	}
+
+	public void addFirst(E value) {
+		add(0, value);
+	}
+
+	@Override
+	public boolean add(E value) {
+		addLast(value);
+		return true;
+	}
+
+	public void addLast(E value) {
+		add(size(), value);
+	}
+
+	@Override
+	public void add(int index, E value) {
+		if (index > size() || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (root == null) {
+			root = new Node(new Object[LEAF_CAPACITY], 0);
+		}
+		root = insert(root, index, value);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public E remove(int index) {
+		if (index >= size() || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		Object[] removed = new Object[1];
+		root = delete(root, index, removed);
+		return (E) removed[0];
+	}
+
+	@Override
+	public boolean remove(Object value) {
+		int index = indexOf(value);
+		if (index == -1) {
+			return false;
+		}
+		remove(index);
+		return true;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public E get(int index) {
+		int[] offset = new int[1];
+		Node leaf = leafAt(index, offset);
+		return (E) leaf.items[offset[0]];
+	}
+
+	@Override
+	public void set(int index, E value) {
+		int[] offset = new int[1];
+		Node leaf = leafAt(index, offset);
+		leaf.items[offset[0]] = value;
+	}
+
+	@Override
+	public boolean contains(Object value) {
+		return indexOf(value) >= 0;
+	}
+
+	@Override
+	public int indexOf(Object o) {
+		int index = 0;
+		Iter it = new Iter();
+		while (it.nextLeaf()) {
+			Object[] items = it.leaf.items;
+			int count = it.leaf.size;
+			for (int i = 0; i < count; i++) {
+				if (o == null ? items[i] == null : o.equals(items[i])) {
+					return index + i;
+				}
+			}
+			index += count;
+		}
+		return -1;
+	}
+
+	@Override
+	public int size() {
+		return size(root);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return root == null;
+	}
+
+	@Override
+	public void clear() {
+		root = null;
+	}
+
+	/**
+	 * other 리스트의 모든 요소를 이 리스트의 끝에 이어 붙입니다. <br>
+	 * 요소를 복사하지 않고 두 트리를 이어 O(log N)에 수행되며, other 리스트는 빈 리스트가 됩니다.
+	 *
+	 * @param other 이어 붙일 리스트
+	 * @throws IllegalArgumentException other가 자기 자신일 경우
+	 */
+	public void splice(RopeList<E> other) {
+		if (other == this) {
+			throw new IllegalArgumentException();
+		}
+		root = join(root, other.root);
+		other.root = null;
+	}
+
+	/**
+	 * index 위치부터 끝까지의 요소들을 떼어내어 새 리스트로 반환합니다. <br>
+	 * 트리를 나누는 방식으로 O(log N)에 수행됩니다.
+	 *
+	 * @param index 떼어낼 첫 요소의 위치 (0 이상 size 이하)
+	 * @return 떼어낸 요소들로 이루어진 리스트
+	 */
+	public RopeList<E> splitAt(int index) {
+		if (index > size() || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		RopeList<E> rest = new RopeList<E>();
+		if (root == null) {
+			return rest;
+		}
+		Node[] parts = split(root, index);
+		root = parts[0];
+		rest.root = parts[1];
+		return rest;
+	}
+
+	@Override
+	public Object clone() {
+		try {
+			@SuppressWarnings("unchecked")
+			RopeList<E> clone = (RopeList<E>) super.clone();
+			Object[] a = toArray();
+			clone.root = build(a, 0, a.length);
+			return clone;
+		} catch (CloneNotSupportedException e) {
+			throw new Error(e);
+		}
+	}
+
+	public Object[] toArray() {
+		Object[] array = new Object[size()];
+		int idx = 0;
+		Iter it = new Iter();
+		while (it.nextLeaf()) {
+			System.arraycopy(it.leaf.items, 0, array, idx, it.leaf.size);
+			idx += it.leaf.size;
+		}
+		return array;
+	}
+
+	public void sort() {
+		sort(null);
+	}
+
+	/**
+	 * 요소들을 정렬합니다. 정렬된 요소들로 트리를 다시 만들며, 단말 노드는 가득 채워집니다.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void sort(Comparator<? super E> c) {
+		Object[] a = toArray();
+		Arrays.sort(a, (Comparator) c);
+		root = build(a, 0, a.length);
+	}
+
+	/**
+	 * 단말 노드들을 왼쪽부터 차례로 방문하며 요소를 반환합니다.
+	 * 다음 단말 노드를 찾는 비용은 평균 O(1) 입니다.
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return new Iter();
+	}
+
+	private class Iter implements Iterator<E> {
+
+		// 아직 방문하지 않은 오른쪽 하위 트리들
+		private final Node[] stack = new Node[height(root) + 1];
+		private int top = 0;
+
+		private Node leaf;
+		private int offset;
+
+		Iter() {
+			if (root != null) {
+				stack[top++] = root;
+			}
+		}
+
+		/*
+		 * 다음 단말 노드로 이동합니다.
+		 */
+		boolean nextLeaf() {
+			if (top == 0) {
+				leaf = null;
+				return false;
+			}
+			Node x = stack[--top];
+			while (!x.isLeaf()) {
+				stack[top++] = x.right;
+				x = x.left;
+			}
+			leaf = x;
+			offset = 0;
+			return true;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return (leaf != null && offset < leaf.size) || top > 0;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public E next() {
+			if (leaf == null || offset == leaf.size) {
+				if (!nextLeaf()) {
+					throw new NoSuchElementException();
+				}
+			}
+			return (E) leaf.items[offset++];
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+}
@@ -0,0 +1,430 @@
+package _01_ArrayList;
+
+import Interface.GrowthPolicy;
+import Interface.List;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 요소들을 항상 정렬된 상태로 유지하는 ArrayList 입니다. <br>
+ * 요소를 추가할 때 이분 탐색으로 위치를 찾은 뒤 {@code System.arraycopy} 한 번으로 자리를 만들며,
+ * {@link #indexOf(Object)}, {@link #contains(Object)} 는 O(log N)에 수행됩니다.
+ * 같은 값의 요소들은 추가된 순서를 유지합니다.
+ * <p>
+ * 정렬 순서를 깨뜨릴 수 있는 {@link #add(int, Object)}, {@link #set(int, Object)} 는 지원하지 않습니다.
+ *
+ * @param <E> the type of elements in this list
+ *
+ * @author kdgyun (st-lab.tistory.com)
+ * @version 1.0.001
+ * @since 1.2.0
+ * @see List
+ * @see ArrayList
+ *
+ */
+
+public class SortedArrayList<E> implements List<E>, Cloneable, Iterable<E> {
+
+	/**
+	 * 확장 가능한 용적의 한계값입니다.
+	 * 자세한 내용은 {@link ArrayList}의 MAX_ARRAY_SIZE를 참고하세요.
+	 */
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+	private static final Object[] EMPTY_ARRAY = {};
+
+	private final Comparator<? super E> comparator;
+	private final GrowthPolicy policy;
+
+	private Object[] array;
+	private int size;
+
+	public SortedArrayList() {
+		this(null);
+	}
+
+	public SortedArrayList(Comparator<? super E> comparator) {
+		this(comparator, GrowthPolicy.DEFAULT);
+	}
+
+	public SortedArrayList(Comparator<? super E> comparator, GrowthPolicy policy) {
+		if (policy == null) {
+			throw new NullPointerException();
+		}
+		this.comparator = comparator;
+		this.policy = policy;
+		this.array = EMPTY_ARRAY;
+		this.size = 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	private int compare(Object o1, Object o2) {
+		if (comparator == null) {
+			return ((Comparable<? super E>) o1).compareTo((E) o2);
+		}
+		return comparator.compare((E) o1, (E) o2);
+	}
+
+	/*
+	 * value 보다 크거나 같은 첫 요소의 위치 (없으면 size)
+	 */
+	private int lowerBound(Object value) {
+		int lo = 0;
+		int hi = size;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (compare(array[mid], value) < 0) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	/*
+	 * value 보다 큰 첫 요소의 위치 (없으면 size)
+	 */
+	private int upperBound(Object value) {
+		int lo = 0;
+		int hi = size;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (compare(array[mid], value) <= 0) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	/*
+	 * 최소 minCapacity 개의 요소를 담을 수 있도록 용적을 늘립니다.
+	 */
+	private void grow(int minCapacity) {
+		if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE) {
+			throw new OutOfMemoryError("Required array length too large");
+		}
+		int capacity = array.length;
+		if (minCapacity <= capacity) {
+			return;
+		}
+		int newCapacity = Math.max(policy.minCapacity(), policy.grow(capacity));
+		if (newCapacity < minCapacity || newCapacity > MAX_ARRAY_SIZE) {
+			newCapacity = minCapacity;
+		}
+		array = Arrays.copyOf(array, newCapacity);
+	}
+
+	private void shrinkIfSparse() {
+		int capacity = array.length;
+		int newCapacity = policy.shrink(capacity, size);
+		if (newCapacity < capacity) {
+			array = Arrays.copyOf(array, Math.max(newCapacity, size));
+		}
+	}
+
+	/**
+	 * 정렬 순서에 맞는 위치에 요소를 추가합니다.
+	 * 같은 값의 요소가 이미 있을 경우 그 요소들의 뒤에 추가됩니다.
+	 *
+	 * @param value 추가할 요소
+	 * @return 항상 {@code true}를 반환
+	 */
+	@Override
+	public boolean add(E value) {
+		if (value == null) {
+			throw new NullPointerException();
+		}
+		if (size > 0 && compare(array[size - 1], value) <= 0) {
+			// 정렬된 순서로 들어오는 경우 이분 탐색 생략
+			grow(size + 1);
+			array[size++] = value;
+			return true;
+		}
+		int index = upperBound(value);
+		grow(size + 1);
+		System.arraycopy(array, index, array, index + 1, size - index);
+		array[index] = value;
+		size++;
+		return true;
+	}
+
+	/**
+	 * 정렬 순서가 깨질 수 있으므로 지원하지 않습니다.
+	 *
+	 * @throws UnsupportedOperationException 항상 발생
+	 */
+	@Override
+	public void add(int index, E value) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * 정렬 순서가 깨질 수 있으므로 지원하지 않습니다.
+	 *
+	 * @throws UnsupportedOperationException 항상 발생
+	 */
+	@Override
+	public void set(int index, E value) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * 이미 정렬된 배열의 요소들을 한 번에 병합합니다. <br>
+	 * 용적을 한 번만 늘린 뒤 두 정렬된 구간을 뒤에서부터 병합하므로 O(N + M)에 수행됩니다.
+	 *
+	 * @param values 이 리스트의 정렬 기준으로 정렬되어 있는 요소들
+	 * @throws IllegalArgumentException values가 정렬되어 있지 않을 경우
+	 */
+	public void addAllSorted(E[] values) {
+		int m = values.length;
+		if (m == 0) {
+			return;
+		}
+		for (int i = 0; i < m; i++) {
+			if (values[i] == null) {
+				throw new NullPointerException();
+			}
+			if (i > 0 && compare(values[i - 1], values[i]) > 0) {
+				throw new IllegalArgumentException("values are not sorted");
+			}
+		}
+		grow(size + m);
+
+		int i = size - 1;	// 기존 요소
+		int j = m - 1;		// 추가 요소
+		int w = size + m - 1;
+		while (j >= 0) {
+			// 같은 값일 경우 기존 요소가 앞에 오도록 추가 요소를 먼저 뒤에 배치
+			if (i >= 0 && compare(array[i], values[j]) > 0) {
+				array[w--] = array[i--];
+			} else {
+				array[w--] = values[j--];
+			}
+		}
+		size += m;
+	}
+
+	/**
+	 * 다른 SortedArrayList의 요소들을 한 번에 병합합니다.
+	 *
+	 * @param other 같은 정렬 기준을 사용하는 리스트
+	 */
+	@SuppressWarnings("unchecked")
+	public void addAllSorted(SortedArrayList<? extends E> other) {
+		addAllSorted((E[]) Arrays.copyOf(other.array, other.size));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public E get(int index) {
+		if (index >= size || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		return (E) array[index];
+	}
+
+	/**
+	 * 리스트에서 value와 같은 첫 요소의 위치를 이분 탐색으로 찾습니다.
+	 */
+	@Override
+	public int indexOf(Object value) {
+		if (value == null) {
+			return -1;
+		}
+		int index = lowerBound(value);
+		if (index < size && compare(array[index], value) == 0) {
+			return index;
+		}
+		return -1;
+	}
+
+	public int lastIndexOf(Object value) {
+		if (value == null) {
+			return -1;
+		}
+		int index = upperBound(value) - 1;
+		if (index >= 0 && compare(array[index], value) == 0) {
+			return index;
+		}
+		return -1;
+	}
+
+	@Override
+	public boolean contains(Object value) {
+		return indexOf(value) >= 0;
+	}
+
+	/**
+	 * @param value 기준 값
+	 * @return value 보다 작거나 같은 요소 중 가장 큰 요소, 없을 경우 {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public E floor(E value) {
+		int index = upperBound(value) - 1;
+		return index >= 0 ? (E) array[index] : null;
+	}
+
+	/**
+	 * @param value 기준 값
+	 * @return value 보다 크거나 같은 요소 중 가장 작은 요소, 없을 경우 {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public E ceiling(E value) {
+		int index = lowerBound(value);
+		return index < size ? (E) array[index] : null;
+	}
+
+	/**
+	 * fromElement(포함) 이상, toElement(미포함) 미만인 요소들의 범위를 반환합니다. <br>
+	 * 요소를 복사하지 않는 view 이며, 생성 이후 리스트가 변경될 경우 view 의 내용은 보장되지 않습니다.
+	 *
+	 * @param fromElement 범위의 하한 (포함)
+	 * @param toElement 범위의 상한 (미포함)
+	 * @return 범위에 해당하는 요소들의 view
+	 */
+	public SubRange subRange(E fromElement, E toElement) {
+		if (compare(fromElement, toElement) > 0) {
+			throw new IllegalArgumentException();
+		}
+		return new SubRange(lowerBound(fromElement), lowerBound(toElement));
+	}
+
+	/**
+	 * {@link SortedArrayList#subRange(Object, Object)} 가 반환하는 읽기 전용 view 입니다.
+	 */
+	public class SubRange implements Iterable<E> {
+
+		private final int from;
+		private final int to;
+
+		private SubRange(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		public int size() {
+			return to - from;
+		}
+
+		public boolean isEmpty() {
+			return from == to;
+		}
+
+		@SuppressWarnings("unchecked")
+		public E get(int index) {
+			if (index >= to - from || index < 0) {
+				throw new IndexOutOfBoundsException();
+			}
+			return (E) array[from + index];
+		}
+
+		@Override
+		public Iterator<E> iterator() {
+			return new Iter(from, to);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public E remove(int index) {
+		if (index >= size || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		E element = (E) array[index];
+		System.arraycopy(array, index + 1, array, index, size - index - 1);
+		array[--size] = null;
+		shrinkIfSparse();
+		return element;
+	}
+
+	@Override
+	public boolean remove(Object value) {
+		int index = indexOf(value);
+		if (index == -1) {
+			return false;
+		}
+		remove(index);
+		return true;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public void clear() {
+		for (int i = 0; i < size; i++) {
+			array[i] = null;
+		}
+		size = 0;
+		shrinkIfSparse();
+	}
+
+	@Override
+	public Object clone() {
+		try {
+			SortedArrayList<?> cloneList = (SortedArrayList<?>) super.clone();
+			cloneList.array = Arrays.copyOf(array, size);
+			return cloneList;
+		} catch (CloneNotSupportedException e) {
+			throw new Error(e);
+		}
+	}
+
+	public Object[] toArray() {
+		return Arrays.copyOf(array, size);
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new Iter(0, -1);
+	}
+
+	private class Iter implements Iterator<E> {
+
+		private int now;
+		private final int fence;	// -1 일 경우 리스트의 끝까지
+
+		Iter(int from, int fence) {
+			this.now = from;
+			this.fence = fence;
+		}
+
+		private int end() {
+			return fence < 0 ? size : fence;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return now < end();
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public E next() {
+			int cs = now;
+			if (cs >= end()) {
+				throw new NoSuchElementException();
+			}
+			now = cs + 1;
+			return (E) array[cs];
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+}
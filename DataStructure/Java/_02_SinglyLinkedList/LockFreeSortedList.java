@@ -0,0 +1,225 @@
+package _02_SinglyLinkedList;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 스레드가 잠금 없이 동시에 사용할 수 있는 정렬된 연결 리스트(집합)입니다. <br>
+ * Harris-Michael 알고리즘을 따릅니다. 노드를 삭제할 때에는 먼저 노드의 next 참조에
+ * 삭제 표시(mark)를 하여 논리적으로 삭제한 뒤, 이전 노드의 next 를 CAS 로 바꾸어 물리적으로 제거합니다.
+ * 탐색 중 표시된 노드를 만난 스레드는 그 노드의 제거를 대신 수행(helping)합니다.
+ * <ul>
+ * <li>{@link #add(Object)}, {@link #remove(Object)} : lock-free</li>
+ * <li>{@link #contains(Object)} : wait-free (CAS 없이 한 번의 순회로 끝납니다)</li>
+ * </ul>
+ * 중복된 요소와 {@code null}은 허용하지 않습니다.
+ * {@link #size()}와 반복자는 동시에 수행되는 변경을 반영하지 못할 수 있습니다. (weakly consistent)
+ *
+ * @param <E> the type of elements in this list
+ *
+ * @author kdgyun (st-lab.tistory.com)
+ * @version 1.0.001
+ * @since 1.2.0
+ * @see SLinkedList
+ *
+ */
+
+public class LockFreeSortedList<E> implements Iterable<E> {
+
+	private final Comparator<? super E> comparator;
+
+	// 데이터가 없는 시작 노드(sentinel) 이며, 삭제되지 않습니다.
+	private final MarkableNode<E> head;
+	private final AtomicInteger size;
+
+	public LockFreeSortedList() {
+		this(null);
+	}
+
+	public LockFreeSortedList(Comparator<? super E> comparator) {
+		this.comparator = comparator;
+		this.head = new MarkableNode<E>(null, null);
+		this.size = new AtomicInteger();
+	}
+
+	@SuppressWarnings("unchecked")
+	private int compare(E o1, Object o2) {
+		if (comparator == null) {
+			return ((Comparable<? super E>) o1).compareTo((E) o2);
+		}
+		return comparator.compare(o1, (E) o2);
+	}
+
+	/*
+	 * find 의 결과로, pred 다음에 curr 가 연결되어 있으며
+	 * curr 는 value 이상인 첫 노드(없으면 null) 입니다.
+	 */
+	private static final class Window<E> {
+		final MarkableNode<E> pred;
+		final MarkableNode<E> curr;
+
+		Window(MarkableNode<E> pred, MarkableNode<E> curr) {
+			this.pred = pred;
+			this.curr = curr;
+		}
+	}
+
+	/*
+	 * value 가 들어갈 위치를 찾습니다.
+	 * 지나가는 길에 삭제 표시된 노드를 만나면 물리적으로 제거하며,
+	 * 제거 CAS 가 실패할 경우(다른 스레드가 pred 를 바꾼 경우) 처음부터 다시 탐색합니다.
+	 */
+	private Window<E> find(Object value) {
+		boolean[] marked = new boolean[1];
+		retry:
+		while (true) {
+			MarkableNode<E> pred = head;
+			MarkableNode<E> curr = pred.next.getReference();
+			while (true) {
+				if (curr == null) {
+					return new Window<E>(pred, null);
+				}
+				MarkableNode<E> succ = curr.next.get(marked);
+				while (marked[0]) {
+					// helping : 논리적으로 삭제된 curr 를 제거
+					if (!pred.next.compareAndSet(curr, succ, false, false)) {
+						continue retry;
+					}
+					curr = succ;
+					if (curr == null) {
+						return new Window<E>(pred, null);
+					}
+					succ = curr.next.get(marked);
+				}
+				if (compare(curr.data, value) >= 0) {
+					return new Window<E>(pred, curr);
+				}
+				pred = curr;
+				curr = succ;
+			}
+		}
+	}
+
+	/**
+	 * 정렬 순서에 맞는 위치에 요소를 추가합니다.
+	 *
+	 * @param value 추가할 요소
+	 * @return 요소가 추가되었을 경우 {@code true}, 이미 같은 요소가 있을 경우 {@code false}
+	 */
+	public boolean add(E value) {
+		if (value == null) {
+			throw new NullPointerException();
+		}
+		while (true) {
+			Window<E> w = find(value);
+			MarkableNode<E> curr = w.curr;
+			if (curr != null && compare(curr.data, value) == 0) {
+				return false;
+			}
+			MarkableNode<E> newNode = new MarkableNode<E>(value, curr);
+			if (w.pred.next.compareAndSet(curr, newNode, false, false)) {
+				size.incrementAndGet();
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * 요소를 삭제합니다.
+	 *
+	 * @param value 삭제할 요소
+	 * @return 요소가 삭제되었을 경우 {@code true}, 요소가 없을 경우 {@code false}
+	 */
+	public boolean remove(Object value) {
+		if (value == null) {
+			throw new NullPointerException();
+		}
+		while (true) {
+			Window<E> w = find(value);
+			MarkableNode<E> curr = w.curr;
+			if (curr == null || compare(curr.data, value) != 0) {
+				return false;
+			}
+			MarkableNode<E> succ = curr.next.getReference();
+			// 논리적 삭제 : 표시에 성공한 스레드만 삭제에 성공한 것으로 봅니다.
+			if (!curr.next.compareAndSet(succ, succ, false, true)) {
+				continue;
+			}
+			size.decrementAndGet();
+			// 물리적 삭제 : 실패하더라도 이후의 find 가 대신 제거합니다.
+			w.pred.next.compareAndSet(curr, succ, false, false);
+			return true;
+		}
+	}
+
+	/**
+	 * 요소가 있는지 확인합니다. CAS 나 재시도 없이 한 번만 순회하므로 wait-free 입니다.
+	 *
+	 * @param value 찾을 요소
+	 * @return 요소가 있을 경우 {@code true}
+	 */
+	public boolean contains(Object value) {
+		if (value == null) {
+			throw new NullPointerException();
+		}
+		MarkableNode<E> curr = head.next.getReference();
+		while (curr != null && compare(curr.data, value) < 0) {
+			curr = curr.next.getReference();
+		}
+		return curr != null && compare(curr.data, value) == 0 && !curr.next.isMarked();
+	}
+
+	/**
+	 * @return 요소의 개수 (동시에 변경 중일 경우 근사값)
+	 */
+	public int size() {
+		return size.get();
+	}
+
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * 삭제 표시되지 않은 요소들을 오름차순으로 순회하는 반복자를 반환합니다.
+	 * 반복 중에 추가/삭제된 요소는 반영될 수도, 반영되지 않을 수도 있습니다.
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return new Iter();
+	}
+
+	private class Iter implements Iterator<E> {
+
+		private MarkableNode<E> nextNode = advance(head.next.getReference());
+
+		private MarkableNode<E> advance(MarkableNode<E> x) {
+			while (x != null && x.next.isMarked()) {
+				x = x.next.getReference();
+			}
+			return x;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextNode != null;
+		}
+
+		@Override
+		public E next() {
+			MarkableNode<E> x = nextNode;
+			if (x == null) {
+				throw new NoSuchElementException();
+			}
+			nextNode = advance(x.next.getReference());
+			return x.data;
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+}
@@ -0,0 +1,15 @@
+package _02_SinglyLinkedList;
+
+import java.util.concurrent.atomic.AtomicMarkableReference;
+
+class MarkableNode<E> {
+
+	final E data;
+	// 다음 노드 참조와 이 노드의 논리적 삭제 표시(mark)를 함께 원자적으로 다룹니다.
+	final AtomicMarkableReference<MarkableNode<E>> next;
+
+	MarkableNode(E data, MarkableNode<E> next) {
+		this.data = data;
+		this.next = new AtomicMarkableReference<MarkableNode<E>>(next, false);
+	}
+}
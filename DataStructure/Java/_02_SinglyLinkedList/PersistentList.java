@@ -0,0 +1,274 @@
+package _02_SinglyLinkedList;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 불변(immutable) 단일 연결 리스트(cons list)입니다. <br>
+ * 한 번 만들어진 리스트는 변경되지 않으며, {@link #prepend(Object)}는 기존 리스트를 꼬리(tail)로 공유하는
+ * 새 리스트를 O(1)에 만듭니다. 따라서 리스트를 다른 스레드에 넘길 때 복사나 잠금이 필요 없으며,
+ * 리스트 참조 자체가 그 시점의 스냅샷이 됩니다.
+ *
+ * <pre>
+ *  PersistentList&lt;String&gt; a = PersistentList.of("b", "c");   // [b, c]
+ *  PersistentList&lt;String&gt; b = a.prepend("a");                // [a, b, c]  (a 와 [b, c] 노드를 공유)
+ * </pre>
+ *
+ * 각 리스트 객체는 첫 요소와 나머지 리스트를 가리키는 노드이기도 합니다.
+ * 빈 리스트는 하나의 공유 객체를 사용합니다.
+ *
+ * @param <E> the type of elements in this list
+ *
+ * @author kdgyun (st-lab.tistory.com)
+ * @version 1.0.001
+ * @since 1.2.0
+ * @see SLinkedList
+ *
+ */
+
+public final class PersistentList<E> implements Iterable<E> {
+
+	private static final PersistentList<Object> EMPTY = new PersistentList<Object>(null, null, 0);
+
+	private final E head;
+	private final PersistentList<E> tail;
+	private final int size;
+
+	private PersistentList(E head, PersistentList<E> tail, int size) {
+		this.head = head;
+		this.tail = tail;
+		this.size = size;
+	}
+
+	/**
+	 * @return 빈 리스트
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> PersistentList<E> empty() {
+		return (PersistentList<E>) EMPTY;
+	}
+
+	/**
+	 * 주어진 요소들을 같은 순서로 담은 리스트를 생성합니다.
+	 *
+	 * @param values 리스트에 담을 요소들
+	 * @return 생성된 리스트
+	 */
+	@SafeVarargs
+	public static <E> PersistentList<E> of(E... values) {
+		PersistentList<E> list = empty();
+		for (int i = values.length - 1; i >= 0; i--) {
+			list = list.prepend(values[i]);
+		}
+		return list;
+	}
+
+	/**
+	 * Iterable의 요소들을 같은 순서로 담은 리스트를 생성합니다.
+	 *
+	 * @param values 리스트에 담을 요소들
+	 * @return 생성된 리스트
+	 */
+	public static <E> PersistentList<E> from(Iterable<? extends E> values) {
+		PersistentList<E> reversed = empty();
+		for (E e : values) {
+			reversed = reversed.prepend(e);
+		}
+		return reversed.reverse();
+	}
+
+	/**
+	 * 리스트의 앞에 요소를 추가한 새 리스트를 반환합니다.
+	 * 기존 리스트는 바뀌지 않으며 새 리스트의 꼬리로 공유됩니다.
+	 *
+	 * @param value 추가할 요소
+	 * @return value 로 시작하고 이 리스트로 이어지는 새 리스트
+	 */
+	public PersistentList<E> prepend(E value) {
+		return new PersistentList<E>(value, this, size + 1);
+	}
+
+	/**
+	 * @return 리스트의 첫 번째 요소
+	 * @throws NoSuchElementException 빈 리스트일 경우
+	 */
+	public E head() {
+		if (size == 0) {
+			throw new NoSuchElementException();
+		}
+		return head;
+	}
+
+	/**
+	 * @return 첫 번째 요소를 제외한 나머지 리스트 (복사 없이 공유)
+	 * @throws NoSuchElementException 빈 리스트일 경우
+	 */
+	public PersistentList<E> tail() {
+		if (size == 0) {
+			throw new NoSuchElementException();
+		}
+		return tail;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public E get(int index) {
+		if (index >= size || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		PersistentList<E> x = this;
+		for (int i = 0; i < index; i++) {
+			x = x.tail;
+		}
+		return x.head;
+	}
+
+	public int indexOf(Object o) {
+		int index = 0;
+		for (PersistentList<E> x = this; x.size != 0; x = x.tail) {
+			if (o == null ? x.head == null : o.equals(x.head)) {
+				return index;
+			}
+			index++;
+		}
+		return -1;
+	}
+
+	public boolean contains(Object o) {
+		return indexOf(o) >= 0;
+	}
+
+	/**
+	 * @return 요소의 순서를 뒤집은 새 리스트
+	 */
+	public PersistentList<E> reverse() {
+		PersistentList<E> reversed = empty();
+		for (PersistentList<E> x = this; x.size != 0; x = x.tail) {
+			reversed = reversed.prepend(x.head);
+		}
+		return reversed;
+	}
+
+	/**
+	 * 각 요소에 mapper를 적용한 결과를 같은 순서로 담은 새 리스트를 반환합니다.
+	 *
+	 * @param mapper 각 요소에 적용할 함수
+	 * @return 변환된 요소들의 리스트
+	 */
+	public <R> PersistentList<R> map(Function<? super E, ? extends R> mapper) {
+		PersistentList<R> reversed = empty();
+		for (PersistentList<E> x = this; x.size != 0; x = x.tail) {
+			reversed = reversed.prepend(mapper.apply(x.head));
+		}
+		return reversed.reverse();
+	}
+
+	/**
+	 * 앞에서부터 차례로 요소들을 누적합니다. (left fold)
+	 *
+	 * @param identity 누적의 초기값
+	 * @param accumulator (누적값, 요소) 로 다음 누적값을 만드는 함수
+	 * @return 최종 누적값
+	 */
+	public <R> R fold(R identity, BiFunction<R, ? super E, R> accumulator) {
+		R result = identity;
+		for (PersistentList<E> x = this; x.size != 0; x = x.tail) {
+			result = accumulator.apply(result, x.head);
+		}
+		return result;
+	}
+
+	/**
+	 * 모든 요소를 순서대로 action에 전달합니다. 순회 중 객체를 생성하지 않습니다.
+	 *
+	 * @param action 각 요소에 수행할 동작
+	 */
+	@Override
+	public void forEach(Consumer<? super E> action) {
+		for (PersistentList<E> x = this; x.size != 0; x = x.tail) {
+			action.accept(x.head);
+		}
+	}
+
+	public Object[] toArray() {
+		Object[] array = new Object[size];
+		int idx = 0;
+		for (PersistentList<E> x = this; x.size != 0; x = x.tail) {
+			array[idx++] = x.head;
+		}
+		return array;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof PersistentList)) {
+			return false;
+		}
+		PersistentList<?> x = this;
+		PersistentList<?> y = (PersistentList<?>) o;
+		if (x.size != y.size) {
+			return false;
+		}
+		for (; x.size != 0 && x != y; x = x.tail, y = y.tail) {
+			if (x.head == null ? y.head != null : !x.head.equals(y.head)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for (PersistentList<E> x = this; x.size != 0; x = x.tail) {
+			hash = 31 * hash + (x.head == null ? 0 : x.head.hashCode());
+		}
+		return hash;
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new Iter(this);
+	}
+
+	private class Iter implements Iterator<E> {
+
+		private PersistentList<E> now;
+
+		Iter(PersistentList<E> start) {
+			this.now = start;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return now.size != 0;
+		}
+
+		@Override
+		public E next() {
+			if (now.size == 0) {
+				throw new NoSuchElementException();
+			}
+			E element = now.head;
+			now = now.tail;
+			return element;
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+}
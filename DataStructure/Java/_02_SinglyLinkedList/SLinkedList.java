@@ -1,6 +1,5 @@
 package _02_SinglyLinkedList;
 
-import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
@@ -24,31 +23,207 @@ public class SLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
 	private Node<E> tail;
 	private int size; 
 
+	// remove 계열 메소드와 clear 에서 떼어낸 노드들 (next 로 연결)
+	private Node<E> nodePool;
+	private int nodePoolSize;
+	private int nodePoolCapacity;
+	private long allocatedNodes;
+
+	/**
+	 * @since 1.2.0
+	 * 마지막으로 search 한 노드(finger)와 그 위치입니다.
+	 * 구조가 바뀔 때 위치를 보정하거나 무효화(null)하며,
+	 * 찾는 위치가 finger 이후일 경우 head 대신 finger 에서 탐색을 시작합니다.
+	 */
+	private Node<E> finger;
+	private int fingerIndex;
+
+	/**
+	 * @since 1.2.0
+	 * 탐색({@link #indexOf(Object)}, {@link #contains(Object)})에 성공했을 때 노드를 재배치하는 방식입니다.
+	 */
+	public enum Organization {
+		/** 재배치하지 않습니다. (기본값) */
+		NONE,
+		/** 찾은 노드를 리스트의 맨 앞으로 옮깁니다. */
+		MOVE_TO_FRONT,
+		/** 찾은 노드를 바로 앞의 노드와 맞바꿉니다. */
+		TRANSPOSE
+	}
+
+	private Organization organization = Organization.NONE;
+
+	/**
+	 * @since 1.2.0
+	 * 탐색 횟수와, 탐색 중 비교한 노드 수의 합입니다.
+	 */
+	private long lookupCount;
+	private long probeCount;
+
 	public SLinkedList() {
 		this.head = null;
 		this.tail = null;
 		this.size = 0;
 	}
+
+	/**
+	 * remove 계열 메소드와 {@link #clear()}에서 떼어낸 노드를 최대 capacity 개 까지 보관하였다가
+	 * add 계열 메소드에서 재사용합니다. capacity 가 0 일 경우(기본값) 보관 중이던 노드도 해제됩니다.
+	 * 
+	 * @since 1.2.0
+	 * @param capacity 보관할 최대 노드 개수
+	 */
+	public void setNodePoolCapacity(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException();
+		}
+		nodePoolCapacity = capacity;
+		while (nodePoolSize > capacity) {
+			Node<E> x = nodePool;
+			nodePool = x.next;
+			x.next = null;
+			nodePoolSize--;
+		}
+	}
+
+	/**
+	 * @since 1.2.0
+	 * @return 지금까지 새로 할당한 노드의 개수
+	 */
+	public long allocatedNodeCount() {
+		return allocatedNodes;
+	}
+
+	private Node<E> obtainNode(E value) {
+		Node<E> x = nodePool;
+		if (x == null) {
+			allocatedNodes++;
+			return new Node<E>(value);
+		}
+		nodePool = x.next;
+		nodePoolSize--;
+		x.next = null;
+		x.data = value;
+		return x;
+	}
+
+	private void recycleNode(Node<E> x) {
+		x.data = null;
+		x.next = null;
+		if (nodePoolSize < nodePoolCapacity) {
+			x.next = nodePool;
+			nodePool = x;
+			nodePoolSize++;
+		}
+	}
 	
 	
+	/**
+	 * 자기 조직화(self-organizing) 방식을 설정합니다. <br>
+	 * 일부 요소에 탐색이 집중되는 경우, 찾은 요소를 앞쪽으로 옮겨 두면
+	 * 이후 같은 요소의 탐색이 head 가까이에서 끝나므로 평균 탐색 길이가 짧아집니다.
+	 * 재배치 방식이 {@link Organization#NONE}이 아닐 경우 탐색만으로 요소의 순서가 바뀝니다.
+	 * 
+	 * @since 1.2.0
+	 * @param organization 재배치 방식
+	 */
+	public void setOrganization(Organization organization) {
+		if (organization == null) {
+			throw new NullPointerException();
+		}
+		this.organization = organization;
+	}
+
+	/**
+	 * @since 1.2.0
+	 * @return 현재 재배치 방식
+	 */
+	public Organization getOrganization() {
+		return organization;
+	}
+
+	/**
+	 * @since 1.2.0
+	 * @return 마지막으로 초기화한 이후의 탐색 횟수
+	 */
+	public long lookupCount() {
+		return lookupCount;
+	}
+
+	/**
+	 * 탐색 한 번에 비교한 노드 수의 평균입니다.
+	 * 
+	 * @since 1.2.0
+	 * @return 평균 탐색 길이 (탐색한 적이 없을 경우 0)
+	 */
+	public double averageProbeLength() {
+		return lookupCount == 0 ? 0 : (double) probeCount / lookupCount;
+	}
+
+	/**
+	 * @since 1.2.0
+	 * 탐색 횟수와 탐색 길이 통계를 초기화합니다.
+	 */
+	public void resetProbeStats() {
+		lookupCount = 0;
+		probeCount = 0;
+	}
+
+	/*
+	 * index 위치에서 찾은 노드 x 를 재배치 방식에 따라 옮기고, 옮겨진 위치를 반환합니다.
+	 * prev 는 x 의 이전 노드(index 가 0 일 경우 null) 입니다.
+	 */
+	private int reorganize(Node<E> prev, Node<E> x, int index) {
+		if (index == 0 || organization == Organization.NONE) {
+			return index;
+		}
+		if (organization == Organization.TRANSPOSE) {
+			// 노드 대신 값을 맞바꾸므로 노드의 위치(finger)는 그대로 유효합니다.
+			E tmp = prev.data;
+			prev.data = x.data;
+			x.data = tmp;
+			return index - 1;
+		}
+		prev.next = x.next;
+		if (x == tail) {
+			tail = prev;
+		}
+		x.next = head;
+		head = x;
+		finger = null;
+		return 0;
+	}
+
 	private Node<E> search(int index) {
 		if(index < 0 || index >= size) {
 			throw new IndexOutOfBoundsException();
 		}
 		
+		if (index == size - 1) {
+			return tail;
+		}
+		
 		Node<E> x = head;
+		int i = 0;
+		if (finger != null && fingerIndex <= index) {
+			x = finger;
+			i = fingerIndex;
+		}
 		
-		for (int i = 0; i < index; i++) {
+		for (; i < index; i++) {
 			x = x.next;
 		}
+		finger = x;
+		fingerIndex = index;
 		return x;
 	}
 	
 	public void addFirst(E value) {
-		Node<E> newNode = new Node<E>(value);
+		Node<E> newNode = obtainNode(value);
 		newNode.next = head;
 		head = newNode;
 		size++;
+		fingerIndex++;
 
 		if (head.next == null) {
 			tail = head;
@@ -63,12 +238,11 @@ public class SLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
 	}
 
 	public void addLast(E value) {
-		Node<E> newNode = new Node<E>(value); 
-
 		if (size == 0) {
 			addFirst(value);
 			return;
 		}
+		Node<E> newNode = obtainNode(value); 
 
 		tail.next = newNode;
 		tail = newNode;
@@ -94,7 +268,7 @@ public class SLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
 		
 		Node<E> prev_Node = search(index - 1);
 		Node<E> next_Node = prev_Node.next;
-		Node<E> newNode = new Node<E>(value);	
+		Node<E> newNode = obtainNode(value);	
 
 		prev_Node.next = null;
 		prev_Node.next = newNode;
@@ -114,8 +288,11 @@ public class SLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
 		E element = headNode.data;
 		Node<E> nextNode = head.next;
 		
-		head.data = null;
-		head.next = null;
+		if (finger == headNode) {
+			finger = null;
+		}
+		fingerIndex--;
+		recycleNode(headNode);
 		head = nextNode;
 		size--;
 
@@ -144,8 +321,7 @@ public class SLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
 		if(prevNode.next == null) {
 			tail = prevNode;
 		}
-		removedNode.next = null;
-		removedNode.data = null;
+		recycleNode(removedNode);
 		size--;
 
 		return element;
@@ -155,12 +331,14 @@ public class SLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
 	public boolean remove(Object value) {
 		Node<E> prevNode = head;
 		Node<E> x = head;	// removedNode 
+		int index = 0;
 		
 		for (; x != null; x = x.next) {
 			if (value.equals(x.data)) {
 				break;
 			}
 			prevNode = x;
+			index++;
 		}
 
 		if(x == null) {
@@ -172,12 +350,17 @@ public class SLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
 			return true;
 		}
 		else {
+			if (finger == x) {
+				finger = null;
+			}
+			else if (index < fingerIndex) {
+				fingerIndex--;
+			}
 			prevNode.next = x.next;
 			if(prevNode.next == null) {
 				tail = prevNode;
 			}
-			x.data = null;
-			x.next = null;
+			recycleNode(x);
 			size--;
 			return true;
 		}
@@ -200,22 +383,27 @@ public class SLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
 		return indexOf(item) >= 0;
 	}
 
+	/**
+	 * 요소의 위치를 반환합니다. <br>
+	 * 자기 조직화 방식이 설정되어 있을 경우 찾은 요소를 재배치한 뒤 재배치된 위치를 반환하므로,
+	 * 반환 값은 항상 현재 요소가 있는 위치입니다.
+	 * 
+	 * @see #setOrganization(Organization)
+	 */
 	@Override
 	public int indexOf(Object o) {
+		lookupCount++;
 		int index = 0;
-		if (o == null) {
-			for (Node<E> x = head; x != null; x = x.next) {
-				if (x.data == null)
-					return index;
-				index++;
-			}
-		} else {
-			for (Node<E> x = head; x != null; x = x.next) {
-				if (o.equals(x.data))
-					return index;
-				index++;
+		Node<E> prev = null;
+		for (Node<E> x = head; x != null; x = x.next) {
+			if (o == null ? x.data == null : o.equals(x.data)) {
+				probeCount += index + 1;
+				return reorganize(prev, x, index);
 			}
+			prev = x;
+			index++;
 		}
+		probeCount += index;
 		return -1;
 	}
 
@@ -233,11 +421,11 @@ public class SLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
 	public void clear() {
 		for (Node<E> x = head; x != null;) {
 			Node<E> next = x.next;
-			x.data = null;
-			x.next = null;
+			recycleNode(x);
 			x = next;
 		}
 		head = tail = null;
+		finger = null;
 		size = 0;
 	}
 
@@ -250,6 +438,12 @@ public class SLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
 			clone.head = null;
 			clone.tail = null;
 			clone.size = 0;
+			clone.finger = null;
+			clone.nodePool = null;
+			clone.nodePoolSize = 0;
+			clone.allocatedNodes = 0;
+			clone.lookupCount = 0;
+			clone.probeCount = 0;
 
 			for (Node<E> x = head; x != null; x = x.next) {
 				clone.addLast(x.data);
@@ -290,16 +484,75 @@ public class SLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
 		sort(null);
 	}
 
+	/**
+	 * 리스트를 정렬합니다. <br>
+	 * 요소를 배열로 복사하지 않고 기존 노드들의 연결을 바꾸는 bottom-up 병합 정렬로,
+	 * O(N log N) 시간과 O(1) 추가 공간을 사용하는 안정 정렬입니다.
+	 * 
+	 * @param c 비교 기준, {@code null}일 경우 요소의 자연 순서를 따릅니다.
+	 */
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public void sort(Comparator<? super E> c) {
-		Object[] a = this.toArray();
-		Arrays.sort(a, (Comparator) c);
+		if (size < 2) {
+			return;
+		}
+		Comparator<? super E> cmp = (c != null) ? c : (Comparator) Comparator.naturalOrder();
+		Node<E> dummy = new Node<E>(null);
+		dummy.next = head;
+		Node<E> last = tail;
+
+		for (int width = 1; width < size; width <<= 1) {
+			Node<E> merged = dummy;
+			Node<E> rest = dummy.next;
+			while (rest != null) {
+				Node<E> left = rest;
+				Node<E> right = cut(left, width);
+				rest = cut(right, width);
+				merged = merge(left, right, merged, cmp);
+			}
+			last = merged;
+		}
+		head = dummy.next;
+		tail = last;
+		dummy.next = null;
+		finger = null;
+	}
 
-		Iter it = (SLinkedList<E>.Iter) this.iterator();
-		for(Object e : a) {
-			it.next();
-			it.set((E) e);
+	/*
+	 * x 부터 n 개의 노드를 남기고 연결을 끊은 뒤, 나머지 부분의 첫 노드를 반환합니다.
+	 */
+	private static <E> Node<E> cut(Node<E> x, int n) {
+		for (int i = 1; x != null && i < n; i++) {
+			x = x.next;
+		}
+		if (x == null) {
+			return null;
+		}
+		Node<E> rest = x.next;
+		x.next = null;
+		return rest;
+	}
+
+	/*
+	 * 정렬된 두 연결 a, b 를 병합하여 to 뒤에 연결하고, 병합된 연결의 마지막 노드를 반환합니다.
+	 * 값이 같을 경우 a 의 노드를 먼저 연결하여 안정성을 유지합니다.
+	 */
+	private static <E> Node<E> merge(Node<E> a, Node<E> b, Node<E> to, Comparator<? super E> cmp) {
+		while (a != null && b != null) {
+			if (cmp.compare(b.data, a.data) < 0) {
+				to.next = b;
+				b = b.next;
+			} else {
+				to.next = a;
+				a = a.next;
+			}
+			to = to.next;
+		}
+		to.next = (a != null) ? a : b;
+		while (to.next != null) {
+			to = to.next;
 		}
+		return to;
 	}
 	
 	
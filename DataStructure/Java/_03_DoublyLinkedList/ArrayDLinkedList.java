@@ -0,0 +1,425 @@
+package _03_DoublyLinkedList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import Interface.GrowthPolicy;
+import Interface.List;
+
+/**
+ * 노드 객체 대신 병렬 배열로 노드를 표현하는 이중 연결 리스트입니다. <br>
+ * i 번 슬롯의 노드는 {@code data[i]}, {@code next[i]}, {@code prev[i]} 로 표현되며,
+ * 링크는 참조가 아닌 슬롯 번호(없을 경우 {@link #NIL})입니다.
+ * 요소마다 {@link Node} 객체를 만들지 않으므로 객체 헤더와 참조 필드만큼의 메모리가 줄어들고,
+ * GC 가 추적해야 할 객체는 배열 세 개 뿐입니다.
+ * <p>
+ * 삭제된 슬롯은 next 배열로 연결된 빈 슬롯 리스트(free-list)에 보관했다가 다시 사용합니다.
+ * 추가/삭제가 반복되어 슬롯의 순서가 리스트의 순서와 많이 달라진 경우
+ * {@link #compact()}로 슬롯을 리스트 순서대로 다시 배치할 수 있습니다.
+ *
+ * @param <E> the type of elements in this list
+ *
+ * @author kdgyun (st-lab.tistory.com)
+ * @version 1.0.001
+ * @since 1.2.0
+ * @see List
+ * @see DLinkedList
+ *
+ */
+
+public class ArrayDLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
+
+	/**
+	 * 링크가 없음을 나타내는 슬롯 번호입니다.
+	 */
+	private static final int NIL = -1;
+
+	/**
+	 * 확장 가능한 용적의 한계값입니다.
+	 */
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+	private static final Object[] EMPTY_DATA = {};
+	private static final int[] EMPTY_LINKS = {};
+
+	private final GrowthPolicy policy;
+
+	private Object[] data;
+	private int[] next;
+	private int[] prev;
+
+	private int head;
+	private int tail;
+	private int size;
+
+	/*
+	 * 빈 슬롯 리스트의 첫 슬롯과, 한 번이라도 사용된 슬롯의 개수(high-water mark) 입니다.
+	 * [used, capacity) 구간의 슬롯은 빈 슬롯 리스트를 거치지 않고 바로 사용합니다.
+	 */
+	private int freeHead;
+	private int used;
+
+	public ArrayDLinkedList() {
+		this(GrowthPolicy.DEFAULT);
+	}
+
+	public ArrayDLinkedList(int capacity) {
+		this(GrowthPolicy.DEFAULT);
+		if (capacity < 0) {
+			throw new IllegalArgumentException();
+		}
+		resize(capacity);
+	}
+
+	public ArrayDLinkedList(GrowthPolicy policy) {
+		if (policy == null) {
+			throw new NullPointerException();
+		}
+		this.policy = policy;
+		this.data = EMPTY_DATA;
+		this.next = EMPTY_LINKS;
+		this.prev = EMPTY_LINKS;
+		this.head = NIL;
+		this.tail = NIL;
+		this.size = 0;
+		this.freeHead = NIL;
+		this.used = 0;
+	}
+
+	private void resize(int newCapacity) {
+		data = Arrays.copyOf(data, newCapacity);
+		next = Arrays.copyOf(next, newCapacity);
+		prev = Arrays.copyOf(prev, newCapacity);
+	}
+
+	/*
+	 * 빈 슬롯을 하나 할당하여 value 를 담고 슬롯 번호를 반환합니다.
+	 */
+	private int allocate(E value) {
+		int slot;
+		if (freeHead != NIL) {
+			slot = freeHead;
+			freeHead = next[slot];
+		} else {
+			if (used == data.length) {
+				if (used == MAX_ARRAY_SIZE) {
+					throw new OutOfMemoryError("Required array length too large");
+				}
+				int newCapacity = Math.max(policy.minCapacity(), policy.grow(used));
+				if (newCapacity <= used || newCapacity > MAX_ARRAY_SIZE) {
+					newCapacity = used + 1;
+				}
+				resize(newCapacity);
+			}
+			slot = used++;
+		}
+		data[slot] = value;
+		return slot;
+	}
+
+	/*
+	 * 슬롯을 빈 슬롯 리스트에 반환합니다.
+	 */
+	private void release(int slot) {
+		data[slot] = null;
+		prev[slot] = NIL;
+		next[slot] = freeHead;
+		freeHead = slot;
+	}
+
+	private int search(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		int x;
+		if (index + 1 > size / 2) {
+			x = tail;
+			for (int i = size - 1; i > index; i--) {
+				x = prev[x];
+			}
+		} else {
+			x = head;
+			for (int i = 0; i < index; i++) {
+				x = next[x];
+			}
+		}
+		return x;
+	}
+
+	/*
+	 * slot 의 앞에 새 노드를 연결합니다. slot 이 NIL 일 경우 리스트의 끝에 연결합니다.
+	 */
+	private void linkBefore(E value, int slot) {
+		int newSlot = allocate(value);
+		int prevSlot = (slot == NIL) ? tail : prev[slot];
+		prev[newSlot] = prevSlot;
+		next[newSlot] = slot;
+		if (prevSlot == NIL) {
+			head = newSlot;
+		} else {
+			next[prevSlot] = newSlot;
+		}
+		if (slot == NIL) {
+			tail = newSlot;
+		} else {
+			prev[slot] = newSlot;
+		}
+		size++;
+	}
+
+	@SuppressWarnings("unchecked")
+	private E unlink(int slot) {
+		E element = (E) data[slot];
+		int prevSlot = prev[slot];
+		int nextSlot = next[slot];
+		if (prevSlot == NIL) {
+			head = nextSlot;
+		} else {
+			next[prevSlot] = nextSlot;
+		}
+		if (nextSlot == NIL) {
+			tail = prevSlot;
+		} else {
+			prev[nextSlot] = prevSlot;
+		}
+		release(slot);
+		size--;
+		return element;
+	}
+
+	public void addFirst(E value) {
+		linkBefore(value, head);
+	}
+
+	@Override
+	public boolean add(E value) {
+		addLast(value);
+		return true;
+	}
+
+	public void addLast(E value) {
+		linkBefore(value, NIL);
+	}
+
+	@Override
+	public void add(int index, E value) {
+		if (index > size || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (index == size) {
+			addLast(value);
+			return;
+		}
+		linkBefore(value, search(index));
+	}
+
+	public E remove() {
+		if (head == NIL) {
+			throw new NoSuchElementException();
+		}
+		return unlink(head);
+	}
+
+	@Override
+	public E remove(int index) {
+		return unlink(search(index));
+	}
+
+	@Override
+	public boolean remove(Object value) {
+		for (int x = head; x != NIL; x = next[x]) {
+			if (value == null ? data[x] == null : value.equals(data[x])) {
+				unlink(x);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public E get(int index) {
+		return (E) data[search(index)];
+	}
+
+	@Override
+	public void set(int index, E value) {
+		data[search(index)] = value;
+	}
+
+	@Override
+	public boolean contains(Object item) {
+		return indexOf(item) >= 0;
+	}
+
+	@Override
+	public int indexOf(Object o) {
+		int index = 0;
+		for (int x = head; x != NIL; x = next[x]) {
+			if (o == null ? data[x] == null : o.equals(data[x])) {
+				return index;
+			}
+			index++;
+		}
+		return -1;
+	}
+
+	public int lastIndexOf(Object o) {
+		int index = size;
+		for (int x = tail; x != NIL; x = prev[x]) {
+			index--;
+			if (o == null ? data[x] == null : o.equals(data[x])) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(data, 0, used, null);
+		head = tail = NIL;
+		freeHead = NIL;
+		used = 0;
+		size = 0;
+	}
+
+	/**
+	 * 노드들을 리스트 순서대로 0 ~ size-1 번 슬롯에 다시 배치합니다. <br>
+	 * 이후의 순회는 배열을 앞에서부터 차례로 읽는 것과 같아지며, 빈 슬롯 리스트는 비워집니다.
+	 */
+	public void compact() {
+		Object[] newData = new Object[data.length];
+		int idx = 0;
+		for (int x = head; x != NIL; x = next[x]) {
+			newData[idx++] = data[x];
+		}
+		data = newData;
+		relinkSequential();
+	}
+
+	/**
+	 * {@link #compact()} 후 용적을 요소의 개수에 맞게 줄입니다.
+	 */
+	public void trimToSize() {
+		compact();
+		if (data.length > size) {
+			resize(size);
+		}
+	}
+
+	/*
+	 * data[0, size) 에 리스트 순서대로 요소가 있다고 보고 링크를 다시 만듭니다.
+	 */
+	private void relinkSequential() {
+		for (int i = 0; i < size; i++) {
+			prev[i] = i - 1;
+			next[i] = i + 1;
+		}
+		if (size == 0) {
+			head = tail = NIL;
+		} else {
+			next[size - 1] = NIL;
+			head = 0;
+			tail = size - 1;
+		}
+		freeHead = NIL;
+		used = size;
+	}
+
+	@Override
+	public Object clone() {
+		try {
+			@SuppressWarnings("unchecked")
+			ArrayDLinkedList<E> clone = (ArrayDLinkedList<E>) super.clone();
+			clone.data = toArray();
+			clone.next = new int[size];
+			clone.prev = new int[size];
+			clone.relinkSequential();
+			return clone;
+		} catch (CloneNotSupportedException e) {
+			throw new Error(e);
+		}
+	}
+
+	public Object[] toArray() {
+		Object[] array = new Object[size];
+		int idx = 0;
+		for (int x = head; x != NIL; x = next[x]) {
+			array[idx++] = data[x];
+		}
+		return array;
+	}
+
+	public void sort() {
+		sort(null);
+	}
+
+	/**
+	 * 요소들을 정렬합니다. 정렬 결과는 리스트 순서대로 슬롯에 배치됩니다. ({@link #compact()}와 같은 효과)
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void sort(Comparator<? super E> c) {
+		Object[] a = toArray();
+		Arrays.sort(a, (Comparator) c);
+		Arrays.fill(data, 0, used, null);
+		System.arraycopy(a, 0, data, 0, size);
+		relinkSequential();
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new Iter();
+	}
+
+	private class Iter implements Iterator<E> {
+
+		private int nextSlot = head;
+		private int lastSlot = NIL;
+
+		@Override
+		public boolean hasNext() {
+			return nextSlot != NIL;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public E next() {
+			if (nextSlot == NIL) {
+				throw new NoSuchElementException();
+			}
+			lastSlot = nextSlot;
+			nextSlot = next[nextSlot];
+			return (E) data[lastSlot];
+		}
+
+		public void set(E e) {
+			if (lastSlot == NIL) {
+				throw new IllegalStateException();
+			}
+			data[lastSlot] = e;
+		}
+
+		@Override
+		public void remove() {
+			if (lastSlot == NIL) {
+				throw new IllegalStateException();
+			}
+			unlink(lastSlot);
+			lastSlot = NIL;
+		}
+
+	}
+}
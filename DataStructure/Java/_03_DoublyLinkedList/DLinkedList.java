@@ -1,8 +1,8 @@
 package _03_DoublyLinkedList;
 
-import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 
 import Interface.List;
@@ -23,6 +23,21 @@ public class DLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
 	private Node<E> head;
 	private Node<E> tail;
 	private int size;
+
+	// remove 계열 메소드, clear, ListIterator.remove 에서 떼어낸 노드들 (next 로 연결)
+	private Node<E> nodePool;
+	private int nodePoolSize;
+	private int nodePoolCapacity;
+	private long allocatedNodes;
+
+	/**
+	 * @since 1.2.0
+	 * 마지막으로 search 한 노드(finger)와 그 위치입니다.
+	 * 구조가 바뀔 때 위치를 보정하거나 무효화(null)하며,
+	 * 다음 search 는 head, tail, finger 중 가장 가까운 곳에서 시작합니다.
+	 */
+	private Node<E> finger;
+	private int fingerIndex;
 	
 	public DLinkedList() {
 		this.head = null;
@@ -30,31 +45,95 @@ public class DLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
 		this.size = 0;
 	}
 
+	/**
+	 * remove 계열 메소드, {@link #clear()}, {@link ListIterator#remove()}에서 떼어낸 노드를 최대 capacity 개 까지
+	 * 보관하였다가 add 계열 메소드와 {@link ListIterator#add(Object)}에서 재사용합니다.
+	 * capacity 가 0 일 경우(기본값) 보관 중이던 노드도 해제됩니다.
+	 * {@link #splice(DLinkedList)}, {@link #splitAt(int)}로 옮겨진 노드는 옮겨간 리스트에 속합니다.
+	 * 
+	 * @since 1.2.0
+	 * @param capacity 보관할 최대 노드 개수
+	 */
+	public void setNodePoolCapacity(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException();
+		}
+		nodePoolCapacity = capacity;
+		while (nodePoolSize > capacity) {
+			Node<E> x = nodePool;
+			nodePool = x.next;
+			x.next = null;
+			nodePoolSize--;
+		}
+	}
+
+	/**
+	 * @since 1.2.0
+	 * @return 지금까지 새로 할당한 노드의 개수
+	 */
+	public long allocatedNodeCount() {
+		return allocatedNodes;
+	}
+
+	private Node<E> obtainNode(E value) {
+		Node<E> x = nodePool;
+		if (x == null) {
+			allocatedNodes++;
+			return new Node<E>(value);
+		}
+		nodePool = x.next;
+		nodePoolSize--;
+		x.next = null;
+		x.data = value;
+		return x;
+	}
+
+	private void recycleNode(Node<E> x) {
+		x.data = null;
+		x.next = null;
+		x.prev = null;
+		if (nodePoolSize < nodePoolCapacity) {
+			x.next = nodePool;
+			nodePool = x;
+			nodePoolSize++;
+		}
+	}
+
 	private Node<E> search(int index) {
 
 		if(index < 0 || index >= size) {
 			throw new IndexOutOfBoundsException();
 		}
 		
+		// 시작점 선택 (head, tail, finger 중 가장 가까운 곳)
+		Node<E> x;
+		int i;
 		if (index + 1 > size / 2) {
-			Node<E> x = tail;
-			for (int i = size - 1; i > index; i--) {
-				x = x.prev;
-			}
-			return x;
+			x = tail;
+			i = size - 1;
 		}
-
 		else {
-			Node<E> x = head;
-			for (int i = 0; i < index; i++) {
-				x = x.next;
-			}
-			return x;
+			x = head;
+			i = 0;
+		}
+		if (finger != null && Math.abs(fingerIndex - index) < Math.abs(i - index)) {
+			x = finger;
+			i = fingerIndex;
+		}
+		
+		for (; i < index; i++) {
+			x = x.next;
+		}
+		for (; i > index; i--) {
+			x = x.prev;
 		}
+		finger = x;
+		fingerIndex = index;
+		return x;
 	}
 	
 	public void addFirst(E value) {
-		Node<E> newNode = new Node<E>(value);
+		Node<E> newNode = obtainNode(value);
 		newNode.next = head; 
 
 		if (head != null) {
@@ -62,6 +141,7 @@ public class DLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
 		}
 		head = newNode;
 		size++;
+		fingerIndex++;
 
 		if (head.next == null) {
 			tail = head;
@@ -77,12 +157,11 @@ public class DLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
 
 
 	public void addLast(E value) {
-		Node<E> newNode = new Node<E>(value);
-
 		if (size == 0) {
 			addFirst(value);
 			return;
 		}
+		Node<E> newNode = obtainNode(value);
 
 		tail.next = newNode;
 		newNode.prev = tail;
@@ -106,7 +185,7 @@ public class DLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
 		}
 		Node<E> prev_Node = search(index - 1);
 		Node<E> next_Node = prev_Node.next;
-		Node<E> newNode = new Node<E>(value);
+		Node<E> newNode = obtainNode(value);
 		
 		prev_Node.next = null;
 		next_Node.prev = null;
@@ -132,8 +211,11 @@ public class DLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
 		E element = headNode.data;
 		Node<E> nextNode = head.next;
 		
-		head.data = null;
-		head.next = null;
+		if (finger == headNode) {
+			finger = null;
+		}
+		fingerIndex--;
+		recycleNode(headNode);
 		
 		if(nextNode != null) {
 			nextNode.prev = null;
@@ -169,9 +251,7 @@ public class DLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
 		E element = removedNode.data;	
 		
 		prevNode.next = null;
-		removedNode.next = null;
-		removedNode.prev = null;
-		removedNode.data = null;
+		recycleNode(removedNode);
 		
 		if(nextNode != null) {
 			nextNode.prev = null;
@@ -194,11 +274,13 @@ public class DLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
 
 		Node<E> prevNode = head;
 		Node<E> x = head;
+		int index = 0;
 		for (; x != null; x = x.next) {
 			if (value.equals(x.data)) {
 				break;
 			}
 			prevNode = x;
+			index++;
 		}
 
 		if(x == null) {
@@ -213,10 +295,14 @@ public class DLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
 		else {
 			Node<E> nextNode = x.next;
 			
+			if (finger == x) {
+				finger = null;
+			}
+			else if (index < fingerIndex) {
+				fingerIndex--;
+			}
 			prevNode.next = null;
-			x.data = null;
-			x.next = null;
-			x.prev = null;
+			recycleNode(x);
 			
 			if(nextNode != null) {
 				nextNode.prev = null;
@@ -304,16 +390,81 @@ public class DLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
 	public void clear() {
 		for (Node<E> x = head; x != null;) {
 			Node<E> next = x.next;
-			x.data = null;
-			x.next = null;
-			x.prev = null;
+			recycleNode(x);
 			x = next;
 		}
 		head = tail = null;
+		finger = null;
 		size = 0;
 	}
 	
 	
+	/**
+	 * other 리스트의 모든 노드를 이 리스트의 끝에 그대로 이어 붙입니다. <br>
+	 * 요소를 복사하지 않고 노드 연결만 바꾸므로 O(1)이며, other 리스트는 빈 리스트가 됩니다.
+	 * 
+	 * @since 1.2.0
+	 * @param other 이어 붙일 리스트
+	 * @throws IllegalArgumentException other가 자기 자신일 경우
+	 */
+	public void splice(DLinkedList<E> other) {
+		if (other == this) {
+			throw new IllegalArgumentException();
+		}
+		if (other.size == 0) {
+			return;
+		}
+		if (size == 0) {
+			head = other.head;
+		}
+		else {
+			tail.next = other.head;
+			other.head.prev = tail;
+		}
+		tail = other.tail;
+		size += other.size;
+
+		other.head = other.tail = null;
+		other.finger = null;
+		other.size = 0;
+	}
+
+	/**
+	 * index 위치부터 끝까지의 노드들을 떼어내어 새 리스트로 반환합니다. <br>
+	 * 요소를 복사하지 않으므로 index 위치를 찾는 비용 외에는 O(1)입니다.
+	 * 
+	 * @since 1.2.0
+	 * @param index 떼어낼 첫 요소의 위치 (0 이상 size 이하)
+	 * @return 떼어낸 노드들로 이루어진 리스트
+	 */
+	public DLinkedList<E> splitAt(int index) {
+		if (index > size || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		DLinkedList<E> rest = new DLinkedList<E>();
+		if (index == size) {
+			return rest;
+		}
+		Node<E> first = search(index);
+		Node<E> last = first.prev;
+
+		rest.head = first;
+		rest.tail = tail;
+		rest.size = size - index;
+		first.prev = null;
+
+		if (last == null) {
+			head = null;
+		}
+		else {
+			last.next = null;
+		}
+		tail = last;
+		size = index;
+		finger = null;
+		return rest;
+	}
+
 	public Object clone() {
 		try {
 			@SuppressWarnings("unchecked")
@@ -322,6 +473,10 @@ public class DLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
 			clone.head = null;
 			clone.tail = null;
 			clone.size = 0;
+			clone.finger = null;
+			clone.nodePool = null;
+			clone.nodePoolSize = 0;
+			clone.allocatedNodes = 0;
 
 			for (Node<E> x = head; x != null; x = x.next) {
 				clone.addLast(x.data);
@@ -363,17 +518,82 @@ public class DLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
 		sort(null);
 	}
 
+	/**
+	 * 리스트를 정렬합니다. <br>
+	 * 요소를 배열로 복사하지 않고 기존 노드들의 연결을 바꾸는 bottom-up 병합 정렬로,
+	 * O(N log N) 시간과 O(1) 추가 공간을 사용하는 안정 정렬입니다.
+	 * 
+	 * @param c 비교 기준, {@code null}일 경우 요소의 자연 순서를 따릅니다.
+	 */
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public void sort(Comparator<? super E> c) {
-		Object[] a = this.toArray();
-		Arrays.sort(a, (Comparator) c);
+		if (size < 2) {
+			return;
+		}
+		Comparator<? super E> cmp = (c != null) ? c : (Comparator) Comparator.naturalOrder();
+		Node<E> dummy = new Node<E>(null);
+		dummy.next = head;
+		Node<E> last = tail;
+
+		for (int width = 1; width < size; width <<= 1) {
+			Node<E> merged = dummy;
+			Node<E> rest = dummy.next;
+			while (rest != null) {
+				Node<E> left = rest;
+				Node<E> right = cut(left, width);
+				rest = cut(right, width);
+				merged = merge(left, right, merged, cmp);
+			}
+			last = merged;
+		}
+		head = dummy.next;
+		tail = last;
+		dummy.next = null;
 
-		Iter it = (DLinkedList<E>.Iter) this.iterator();
-		for(Object e : a) {
-			it.next();
-			it.set((E) e);
+		// prev 연결 복구
+		Node<E> before = null;
+		for (Node<E> x = head; x != null; x = x.next) {
+			x.prev = before;
+			before = x;
+		}
+		finger = null;
+	}
+
+	/*
+	 * x 부터 n 개의 노드를 남기고 연결을 끊은 뒤, 나머지 부분의 첫 노드를 반환합니다.
+	 */
+	private static <E> Node<E> cut(Node<E> x, int n) {
+		for (int i = 1; x != null && i < n; i++) {
+			x = x.next;
 		}
+		if (x == null) {
+			return null;
+		}
+		Node<E> rest = x.next;
+		x.next = null;
+		return rest;
+	}
 
+	/*
+	 * 정렬된 두 연결 a, b 를 병합하여 to 뒤에 연결하고, 병합된 연결의 마지막 노드를 반환합니다.
+	 * 값이 같을 경우 a 의 노드를 먼저 연결하여 안정성을 유지합니다.
+	 */
+	private static <E> Node<E> merge(Node<E> a, Node<E> b, Node<E> to, Comparator<? super E> cmp) {
+		while (a != null && b != null) {
+			if (cmp.compare(b.data, a.data) < 0) {
+				to.next = b;
+				b = b.next;
+			} else {
+				to.next = a;
+				a = a.next;
+			}
+			to = to.next;
+		}
+		to.next = (a != null) ? a : b;
+		while (to.next != null) {
+			to = to.next;
+		}
+		return to;
 	}
 	
 	@Override
@@ -381,6 +601,152 @@ public class DLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
 		return new Iter();
 	}
 
+	/**
+	 * 양방향으로 이동할 수 있는 ListIterator를 반환합니다. <br>
+	 * 반복자를 통한 {@code add}, {@code remove}, {@code set}은 현재 위치의 노드 연결만 바꾸므로 O(1)입니다.
+	 * 
+	 * @since 1.2.0
+	 * @return 리스트의 처음부터 시작하는 ListIterator
+	 */
+	public ListIterator<E> listIterator() {
+		return new ListItr(0);
+	}
+
+	/**
+	 * @since 1.2.0
+	 * @param index 처음 {@code next()}로 반환될 요소의 위치 (0 이상 size 이하)
+	 * @return index 위치부터 시작하는 ListIterator
+	 */
+	public ListIterator<E> listIterator(int index) {
+		if (index > size || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		return new ListItr(index);
+	}
+
+	private class ListItr implements ListIterator<E> {
+
+		private Node<E> nextNode;		// 다음 next() 가 반환할 노드 (끝일 경우 null)
+		private Node<E> lastReturned;	// 마지막으로 next()/previous() 가 반환한 노드
+		private int nextIndex;
+
+		ListItr(int index) {
+			nextNode = (index == size) ? null : search(index);
+			nextIndex = index;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextIndex < size;
+		}
+
+		@Override
+		public E next() {
+			if (nextIndex >= size) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = nextNode;
+			nextNode = nextNode.next;
+			nextIndex++;
+			return lastReturned.data;
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return nextIndex > 0;
+		}
+
+		@Override
+		public E previous() {
+			if (nextIndex <= 0) {
+				throw new NoSuchElementException();
+			}
+			nextNode = (nextNode == null) ? tail : nextNode.prev;
+			lastReturned = nextNode;
+			nextIndex--;
+			return lastReturned.data;
+		}
+
+		@Override
+		public int nextIndex() {
+			return nextIndex;
+		}
+
+		@Override
+		public int previousIndex() {
+			return nextIndex - 1;
+		}
+
+		@Override
+		public void remove() {
+			Node<E> x = lastReturned;
+			if (x == null) {
+				throw new IllegalStateException();
+			}
+			Node<E> prevNode = x.prev;
+			Node<E> next = x.next;
+
+			if (prevNode == null) {
+				head = next;
+			}
+			else {
+				prevNode.next = next;
+			}
+			if (next == null) {
+				tail = prevNode;
+			}
+			else {
+				next.prev = prevNode;
+			}
+
+			if (nextNode == x) {
+				// previous() 이후 삭제한 경우
+				nextNode = next;
+			}
+			else {
+				nextIndex--;
+			}
+			size--;
+			finger = null;
+			recycleNode(x);
+			lastReturned = null;
+		}
+
+		@Override
+		public void set(E e) {
+			if (lastReturned == null) {
+				throw new IllegalStateException();
+			}
+			lastReturned.data = e;
+		}
+
+		@Override
+		public void add(E e) {
+			Node<E> newNode = obtainNode(e);
+			Node<E> prevNode = (nextNode == null) ? tail : nextNode.prev;
+
+			newNode.prev = prevNode;
+			newNode.next = nextNode;
+			if (prevNode == null) {
+				head = newNode;
+			}
+			else {
+				prevNode.next = newNode;
+			}
+			if (nextNode == null) {
+				tail = newNode;
+			}
+			else {
+				nextNode.prev = newNode;
+			}
+
+			size++;
+			nextIndex++;
+			finger = null;
+			lastReturned = null;
+		}
+	}
+
 	private class Iter implements Iterator<E> {
 
 		private int nowIndex = 0;
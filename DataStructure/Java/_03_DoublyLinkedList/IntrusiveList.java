@@ -0,0 +1,308 @@
+package _03_DoublyLinkedList;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 요소가 직접 링크를 가지는 침습형(intrusive) 이중 연결 리스트입니다. <br>
+ * 요소는 {@link Linkable}을 구현하여 이전/다음 요소의 링크를 스스로 가지므로,
+ * 요소를 추가할 때 노드를 할당하지 않으며, 참조를 가지고 있는 요소는
+ * {@link #unlink(Linkable)}로 탐색 없이 O(1)에 삭제할 수 있습니다.
+ * LRU 캐시나 스케줄러 큐처럼 요소를 다른 자료구조(예: HashMap)로 찾은 뒤
+ * 리스트에서 떼어내거나 옮기는 경우에 적합합니다.
+ * <p>
+ * 요소가 리스트에 속해 있는지는 링크와 이 리스트의 head/tail 로 판단합니다.
+ * 연결되지 않은 요소나 다른 리스트의 맨 앞/맨 뒤 요소를 unlink 하면 {@link IllegalArgumentException}이 발생하지만,
+ * 다른 리스트의 중간 요소는 구분할 수 없으므로 다른 리스트의 요소를 넘겨서는 안 됩니다.
+ *
+ * @param <E> the type of elements in this list
+ *
+ * @author kdgyun (st-lab.tistory.com)
+ * @version 1.0.001
+ * @since 1.2.0
+ * @see Linkable
+ * @see DLinkedList
+ *
+ */
+
+public class IntrusiveList<E extends Linkable<E>> implements Iterable<E> {
+
+	private E head;
+	private E tail;
+	private int size;
+
+	public IntrusiveList() {
+		this.head = null;
+		this.tail = null;
+		this.size = 0;
+	}
+
+	/**
+	 * 요소가 이 리스트(또는 다른 리스트)에 연결되어 있는지 확인합니다. <br>
+	 * 링크가 모두 {@code null}인 요소는 이 리스트의 head 일 때만 연결된 것으로 보므로,
+	 * 다른 리스트의 유일한 요소(링크가 모두 {@code null})에 대해서는 {@code false}를 반환합니다.
+	 *
+	 * @param e 확인할 요소
+	 * @return 연결되어 있을 경우 {@code true}
+	 */
+	public boolean isLinked(E e) {
+		return e.getPrev() != null || e.getNext() != null || head == e;
+	}
+
+	private void checkUnlinked(E e) {
+		if (e == null) {
+			throw new NullPointerException();
+		}
+		if (isLinked(e)) {
+			throw new IllegalArgumentException("element is already linked");
+		}
+	}
+
+	/*
+	 * 요소가 이 리스트에 연결되어 있는지 확인합니다.
+	 * 앞(뒤) 링크가 없는 요소는 이 리스트의 head(tail) 이어야 합니다.
+	 * 양쪽 링크가 모두 있는 다른 리스트의 요소는 구분하지 못합니다.
+	 */
+	private void checkLinked(E e) {
+		if ((e.getPrev() == null && head != e) || (e.getNext() == null && tail != e)) {
+			throw new IllegalArgumentException("element is not linked to this list");
+		}
+	}
+
+	public void addFirst(E e) {
+		checkUnlinked(e);
+		e.setNext(head);
+		if (head == null) {
+			tail = e;
+		} else {
+			head.setPrev(e);
+		}
+		head = e;
+		size++;
+	}
+
+	public boolean add(E e) {
+		addLast(e);
+		return true;
+	}
+
+	public void addLast(E e) {
+		checkUnlinked(e);
+		e.setPrev(tail);
+		if (tail == null) {
+			head = e;
+		} else {
+			tail.setNext(e);
+		}
+		tail = e;
+		size++;
+	}
+
+	/**
+	 * 리스트에 속한 요소 pos 의 앞에 요소를 추가합니다.
+	 *
+	 * @param pos 이 리스트에 속한 요소
+	 * @param e 추가할 요소
+	 * @throws IllegalArgumentException pos 가 이 리스트에 연결되어 있지 않거나 e 가 이미 연결되어 있을 경우
+	 */
+	public void addBefore(E pos, E e) {
+		checkLinked(pos);
+		checkUnlinked(e);
+		E prev = pos.getPrev();
+		e.setPrev(prev);
+		e.setNext(pos);
+		pos.setPrev(e);
+		if (prev == null) {
+			head = e;
+		} else {
+			prev.setNext(e);
+		}
+		size++;
+	}
+
+	/**
+	 * 리스트에 속한 요소 pos 의 뒤에 요소를 추가합니다.
+	 *
+	 * @param pos 이 리스트에 속한 요소
+	 * @param e 추가할 요소
+	 * @throws IllegalArgumentException pos 가 이 리스트에 연결되어 있지 않거나 e 가 이미 연결되어 있을 경우
+	 */
+	public void addAfter(E pos, E e) {
+		checkLinked(pos);
+		checkUnlinked(e);
+		E next = pos.getNext();
+		e.setPrev(pos);
+		e.setNext(next);
+		pos.setNext(e);
+		if (next == null) {
+			tail = e;
+		} else {
+			next.setPrev(e);
+		}
+		size++;
+	}
+
+	/**
+	 * 리스트에 속한 요소를 O(1)에 떼어냅니다. 떼어낸 요소의 링크는 {@code null}이 됩니다.
+	 *
+	 * @param e 이 리스트에 속한 요소
+	 * @return 떼어낸 요소
+	 * @throws IllegalArgumentException 요소가 이 리스트에 연결되어 있지 않을 경우
+	 */
+	public E unlink(E e) {
+		checkLinked(e);
+		E prev = e.getPrev();
+		E next = e.getNext();
+		if (prev == null) {
+			head = next;
+		} else {
+			prev.setNext(next);
+			e.setPrev(null);
+		}
+		if (next == null) {
+			tail = prev;
+		} else {
+			next.setPrev(prev);
+			e.setNext(null);
+		}
+		size--;
+		return e;
+	}
+
+	/**
+	 * 리스트에 속한 요소를 맨 앞으로 옮깁니다. (LRU 의 접근 갱신 등)
+	 *
+	 * @param e 이 리스트에 속한 요소
+	 */
+	public void moveToFront(E e) {
+		if (head == e) {
+			return;
+		}
+		unlink(e);
+		addFirst(e);
+	}
+
+	/**
+	 * 리스트에 속한 요소를 맨 뒤로 옮깁니다.
+	 *
+	 * @param e 이 리스트에 속한 요소
+	 */
+	public void moveToBack(E e) {
+		if (tail == e) {
+			return;
+		}
+		unlink(e);
+		addLast(e);
+	}
+
+	public E remove() {
+		return removeFirst();
+	}
+
+	public E removeFirst() {
+		if (head == null) {
+			throw new NoSuchElementException();
+		}
+		return unlink(head);
+	}
+
+	public E removeLast() {
+		if (tail == null) {
+			throw new NoSuchElementException();
+		}
+		return unlink(tail);
+	}
+
+	public E getFirst() {
+		if (head == null) {
+			throw new NoSuchElementException();
+		}
+		return head;
+	}
+
+	public E getLast() {
+		if (tail == null) {
+			throw new NoSuchElementException();
+		}
+		return tail;
+	}
+
+	/**
+	 * 요소가 이 리스트에 속해 있는지 확인합니다. 리스트를 순회하므로 O(N) 입니다.
+	 */
+	public boolean contains(Object o) {
+		for (E x = head; x != null; x = x.getNext()) {
+			if (x == o) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * 모든 요소를 떼어냅니다. 각 요소의 링크를 {@code null}로 되돌려 다른 리스트에 추가할 수 있게 합니다.
+	 */
+	public void clear() {
+		for (E x = head; x != null;) {
+			E next = x.getNext();
+			x.setPrev(null);
+			x.setNext(null);
+			x = next;
+		}
+		head = tail = null;
+		size = 0;
+	}
+
+	public Object[] toArray() {
+		Object[] array = new Object[size];
+		int idx = 0;
+		for (E x = head; x != null; x = x.getNext()) {
+			array[idx++] = x;
+		}
+		return array;
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new Iter();
+	}
+
+	private class Iter implements Iterator<E> {
+
+		private E nextElement = head;
+		private E lastReturned;
+
+		@Override
+		public boolean hasNext() {
+			return nextElement != null;
+		}
+
+		@Override
+		public E next() {
+			if (nextElement == null) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = nextElement;
+			nextElement = nextElement.getNext();
+			return lastReturned;
+		}
+
+		@Override
+		public void remove() {
+			if (lastReturned == null) {
+				throw new IllegalStateException();
+			}
+			unlink(lastReturned);
+			lastReturned = null;
+		}
+
+	}
+}
@@ -0,0 +1,46 @@
+package _03_DoublyLinkedList;
+
+/**
+ * {@link IntrusiveList}에 담길 요소가 구현해야 하는 연결 규약입니다. <br>
+ * 요소 자신이 이전/다음 요소에 대한 링크 필드를 가지며, 리스트는 별도의 노드 없이 이 필드들로 요소를 연결합니다.
+ * 구현 클래스는 두 개의 필드와 접근자만 두면 됩니다.
+ *
+ * <pre>
+ *  class Task implements Linkable&lt;Task&gt; {
+ *      private Task prev, next;
+ *      public Task getPrev() { return prev; }
+ *      public void setPrev(Task prev) { this.prev = prev; }
+ *      public Task getNext() { return next; }
+ *      public void setNext(Task next) { this.next = next; }
+ *  }
+ * </pre>
+ *
+ * 링크 필드는 리스트가 관리하므로 외부에서 변경해서는 안 되며,
+ * 한 요소는 동시에 하나의 리스트에만 속할 수 있습니다.
+ *
+ * @param <E> 자기 자신의 타입
+ *
+ * @author kdgyun (st-lab.tistory.com)
+ * @version 1.0.001
+ * @since 1.2.0
+ * @see IntrusiveList
+ *
+ */
+
+public interface Linkable<E extends Linkable<E>> {
+
+	/**
+	 * @return 이전 요소 (첫 요소이거나 리스트에 속하지 않을 경우 {@code null})
+	 */
+	E getPrev();
+
+	void setPrev(E prev);
+
+	/**
+	 * @return 다음 요소 (마지막 요소이거나 리스트에 속하지 않을 경우 {@code null})
+	 */
+	E getNext();
+
+	void setNext(E next);
+
+}
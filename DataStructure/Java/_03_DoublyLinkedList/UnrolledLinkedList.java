@@ -0,0 +1,398 @@
+package _03_DoublyLinkedList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import Interface.List;
+
+/**
+ * 노드 하나에 여러 개의 요소를 배열로 담는 이중 연결 리스트(unrolled linked list)입니다. <br>
+ * 노드마다 최대 nodeCapacity 개의 요소를 연속된 배열에 저장하므로, {@link DLinkedList}에 비해
+ * 노드 수가 1/nodeCapacity 로 줄어들고 순회와 {@link #get(int)}이 훨씬 적은 노드를 거칩니다.
+ * <p>
+ * 가득 찬 노드에 요소를 추가하면 노드를 절반으로 나누며, 삭제 후 노드가 절반 미만으로 비게 되면
+ * 이웃 노드와 합칠 수 있는 경우 하나로 합칩니다. 노드 내부의 이동은 최대 nodeCapacity 개 이므로
+ * 중간 삽입/삭제 비용은 위치를 찾는 비용과 거의 같습니다.
+ *
+ * @param <E> the type of elements in this list
+ *
+ * @author kdgyun (st-lab.tistory.com)
+ * @version 1.0.001
+ * @since 1.2.0
+ * @see List
+ * @see DLinkedList
+ *
+ */
+
+public class UnrolledLinkedList<E> implements List<E>, Iterable<E>, Cloneable {
+
+	private static final int DEFAULT_NODE_CAPACITY = 32;
+
+	private final int nodeCapacity;
+
+	private UnrolledNode<E> head;
+	private UnrolledNode<E> tail;
+	private int size;
+
+	/*
+	 * locate(int) 로 찾은 요소의 노드 내 위치
+	 */
+	private int foundOffset;
+
+	public UnrolledLinkedList() {
+		this(DEFAULT_NODE_CAPACITY);
+	}
+
+	/**
+	 * @param nodeCapacity 노드 하나에 담을 최대 요소 개수 (4 이상)
+	 */
+	public UnrolledLinkedList(int nodeCapacity) {
+		if (nodeCapacity < 4) {
+			throw new IllegalArgumentException();
+		}
+		this.nodeCapacity = nodeCapacity;
+		this.head = null;
+		this.tail = null;
+		this.size = 0;
+	}
+
+	/*
+	 * index 번째 요소가 있는 노드를 반환하고, 노드 내 위치를 foundOffset 에 저장합니다.
+	 * index == size 인 경우 마지막 노드의 끝 위치를 반환합니다. (삽입용)
+	 */
+	private UnrolledNode<E> locate(int index) {
+		if (index > size / 2) {
+			UnrolledNode<E> x = tail;
+			int start = size - x.count;
+			while (start > index) {
+				x = x.prev;
+				start -= x.count;
+			}
+			foundOffset = index - start;
+			return x;
+		}
+		UnrolledNode<E> x = head;
+		int start = 0;
+		while (index - start >= x.count && x.next != null) {
+			start += x.count;
+			x = x.next;
+		}
+		foundOffset = index - start;
+		return x;
+	}
+
+	/*
+	 * x 노드의 뒤에 새 노드를 연결합니다.
+	 */
+	private UnrolledNode<E> linkAfter(UnrolledNode<E> x) {
+		UnrolledNode<E> newNode = new UnrolledNode<E>(nodeCapacity);
+		newNode.prev = x;
+		if (x == null) {
+			newNode.next = head;
+			if (head != null) {
+				head.prev = newNode;
+			}
+			head = newNode;
+		} else {
+			newNode.next = x.next;
+			if (x.next != null) {
+				x.next.prev = newNode;
+			}
+			x.next = newNode;
+		}
+		if (newNode.next == null) {
+			tail = newNode;
+		}
+		return newNode;
+	}
+
+	private void unlink(UnrolledNode<E> x) {
+		UnrolledNode<E> prevNode = x.prev;
+		UnrolledNode<E> nextNode = x.next;
+		if (prevNode == null) {
+			head = nextNode;
+		} else {
+			prevNode.next = nextNode;
+		}
+		if (nextNode == null) {
+			tail = prevNode;
+		} else {
+			nextNode.prev = prevNode;
+		}
+		x.items = null;
+		x.next = null;
+		x.prev = null;
+	}
+
+	/*
+	 * x 노드의 offset 위치에 요소를 넣습니다. 노드가 가득 찬 경우 절반으로 나눈 뒤 넣습니다.
+	 */
+	private void insertAt(UnrolledNode<E> x, int offset, E value) {
+		if (x.count == nodeCapacity) {
+			UnrolledNode<E> newNode = linkAfter(x);
+			int half = nodeCapacity >>> 1;
+			int moved = x.count - half;
+			System.arraycopy(x.items, half, newNode.items, 0, moved);
+			Arrays.fill(x.items, half, x.count, null);
+			x.count = half;
+			newNode.count = moved;
+			if (offset > half) {
+				x = newNode;
+				offset -= half;
+			}
+		}
+		System.arraycopy(x.items, offset, x.items, offset + 1, x.count - offset);
+		x.items[offset] = value;
+		x.count++;
+		size++;
+	}
+
+	@SuppressWarnings("unchecked")
+	private E removeAt(UnrolledNode<E> x, int offset) {
+		E element = (E) x.items[offset];
+		System.arraycopy(x.items, offset + 1, x.items, offset, x.count - offset - 1);
+		x.items[--x.count] = null;
+		size--;
+
+		if (x.count == 0) {
+			unlink(x);
+		} else if (x.count < (nodeCapacity >>> 1)) {
+			// 이웃 노드와 합칠 수 있으면 합칩니다.
+			UnrolledNode<E> nextNode = x.next;
+			UnrolledNode<E> prevNode = x.prev;
+			if (nextNode != null && x.count + nextNode.count <= nodeCapacity) {
+				System.arraycopy(nextNode.items, 0, x.items, x.count, nextNode.count);
+				x.count += nextNode.count;
+				unlink(nextNode);
+			} else if (prevNode != null && x.count + prevNode.count <= nodeCapacity) {
+				System.arraycopy(x.items, 0, prevNode.items, prevNode.count, x.count);
+				prevNode.count += x.count;
+				unlink(x);
+			}
+		}
+		return element;
+	}
+
+	public void addFirst(E value) {
+		if (head == null) {
+			linkAfter(null);
+		}
+		insertAt(head, 0, value);
+	}
+
+	@Override
+	public boolean add(E value) {
+		addLast(value);
+		return true;
+	}
+
+	public void addLast(E value) {
+		if (tail == null) {
+			linkAfter(null);
+		}
+		insertAt(tail, tail.count, value);
+	}
+
+	@Override
+	public void add(int index, E value) {
+		if (index > size || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (index == size) {
+			addLast(value);
+			return;
+		}
+		UnrolledNode<E> x = locate(index);
+		insertAt(x, foundOffset, value);
+	}
+
+	public E remove() {
+		if (head == null) {
+			throw new NoSuchElementException();
+		}
+		return removeAt(head, 0);
+	}
+
+	@Override
+	public E remove(int index) {
+		if (index >= size || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		UnrolledNode<E> x = locate(index);
+		return removeAt(x, foundOffset);
+	}
+
+	@Override
+	public boolean remove(Object value) {
+		for (UnrolledNode<E> x = head; x != null; x = x.next) {
+			for (int i = 0; i < x.count; i++) {
+				if (value == null ? x.items[i] == null : value.equals(x.items[i])) {
+					removeAt(x, i);
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public E get(int index) {
+		if (index >= size || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		UnrolledNode<E> x = locate(index);
+		return (E) x.items[foundOffset];
+	}
+
+	@Override
+	public void set(int index, E value) {
+		if (index >= size || index < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		UnrolledNode<E> x = locate(index);
+		x.items[foundOffset] = value;
+	}
+
+	@Override
+	public boolean contains(Object item) {
+		return indexOf(item) >= 0;
+	}
+
+	@Override
+	public int indexOf(Object o) {
+		int index = 0;
+		for (UnrolledNode<E> x = head; x != null; x = x.next) {
+			Object[] items = x.items;
+			for (int i = 0; i < x.count; i++) {
+				if (o == null ? items[i] == null : o.equals(items[i])) {
+					return index + i;
+				}
+			}
+			index += x.count;
+		}
+		return -1;
+	}
+
+	public int lastIndexOf(Object o) {
+		int index = size;
+		for (UnrolledNode<E> x = tail; x != null; x = x.prev) {
+			index -= x.count;
+			Object[] items = x.items;
+			for (int i = x.count - 1; i >= 0; i--) {
+				if (o == null ? items[i] == null : o.equals(items[i])) {
+					return index + i;
+				}
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public void clear() {
+		for (UnrolledNode<E> x = head; x != null;) {
+			UnrolledNode<E> next = x.next;
+			x.items = null;
+			x.next = null;
+			x.prev = null;
+			x = next;
+		}
+		head = tail = null;
+		size = 0;
+	}
+
+	@Override
+	public Object clone() {
+		try {
+			@SuppressWarnings("unchecked")
+			UnrolledLinkedList<E> clone = (UnrolledLinkedList<E>) super.clone();
+			clone.head = null;
+			clone.tail = null;
+			clone.size = 0;
+
+			for (UnrolledNode<E> x = head; x != null; x = x.next) {
+				UnrolledNode<E> copy = clone.linkAfter(clone.tail);
+				System.arraycopy(x.items, 0, copy.items, 0, x.count);
+				copy.count = x.count;
+				clone.size += x.count;
+			}
+			return clone;
+		} catch (CloneNotSupportedException e) {
+			throw new Error(e);
+		}
+	}
+
+	public Object[] toArray() {
+		Object[] array = new Object[size];
+		int idx = 0;
+		for (UnrolledNode<E> x = head; x != null; x = x.next) {
+			System.arraycopy(x.items, 0, array, idx, x.count);
+			idx += x.count;
+		}
+		return array;
+	}
+
+	public void sort() {
+		sort(null);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void sort(Comparator<? super E> c) {
+		Object[] a = this.toArray();
+		Arrays.sort(a, (Comparator) c);
+
+		int idx = 0;
+		for (UnrolledNode<E> x = head; x != null; x = x.next) {
+			System.arraycopy(a, idx, x.items, 0, x.count);
+			idx += x.count;
+		}
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new Iter();
+	}
+
+	private class Iter implements Iterator<E> {
+
+		private int nowIndex = 0;
+		private UnrolledNode<E> node = head;
+		private int offset = 0;
+
+		@Override
+		public boolean hasNext() {
+			return nowIndex < size;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public E next() {
+			if (nowIndex >= size) {
+				throw new NoSuchElementException();
+			}
+			if (offset == node.count) {
+				node = node.next;
+				offset = 0;
+			}
+			nowIndex++;
+			return (E) node.items[offset++];
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+}
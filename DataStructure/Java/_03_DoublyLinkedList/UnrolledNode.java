@@ -0,0 +1,17 @@
+package _03_DoublyLinkedList;
+
+class UnrolledNode<E> {
+
+	Object[] items;		// 0 ~ count-1 위치에 요소가 저장됩니다.
+	int count;
+	UnrolledNode<E> next;
+	UnrolledNode<E> prev;
+
+	UnrolledNode(int capacity) {
+		this.items = new Object[capacity];
+		this.count = 0;
+		this.prev = null;
+		this.next = null;
+	}
+
+}
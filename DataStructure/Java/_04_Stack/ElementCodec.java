@@ -0,0 +1,92 @@
+package _04_Stack;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link SpillingStack}이 요소를 파일로 내보내고 다시 읽을 때 사용하는 직렬화 규약입니다. <br>
+ * {@link #write(DataOutput, Object)}로 쓴 바이트들을 {@link #read(DataInput)}로 읽었을 때
+ * 같은 요소가 만들어져야 하며, 쓴 만큼의 바이트만 읽어야 합니다.
+ * {@code null} 요소를 스택에 넣는 경우 codec 이 {@code null}도 처리할 수 있어야 합니다.
+ *
+ * @param <E> the type of elements
+ *
+ * @author kdgyun (st-lab.tistory.com)
+ * @version 1.0.001
+ * @since 1.2.0
+ * @see SpillingStack
+ *
+ */
+
+public interface ElementCodec<E> {
+
+	/**
+	 * 요소를 out 에 씁니다.
+	 */
+	void write(DataOutput out, E value) throws IOException;
+
+	/**
+	 * in 에서 요소 하나를 읽습니다.
+	 */
+	E read(DataInput in) throws IOException;
+
+	/**
+	 * {@code null}이 아닌 Integer 요소를 4 바이트로 저장하는 codec 입니다.
+	 */
+	ElementCodec<Integer> INTEGER = new ElementCodec<Integer>() {
+		@Override
+		public void write(DataOutput out, Integer value) throws IOException {
+			out.writeInt(value);
+		}
+
+		@Override
+		public Integer read(DataInput in) throws IOException {
+			return in.readInt();
+		}
+	};
+
+	/**
+	 * {@code null}이 아닌 Long 요소를 8 바이트로 저장하는 codec 입니다.
+	 */
+	ElementCodec<Long> LONG = new ElementCodec<Long>() {
+		@Override
+		public void write(DataOutput out, Long value) throws IOException {
+			out.writeLong(value);
+		}
+
+		@Override
+		public Long read(DataInput in) throws IOException {
+			return in.readLong();
+		}
+	};
+
+	/**
+	 * String 요소를 길이와 UTF-8 바이트로 저장하는 codec 입니다. {@code null}도 저장할 수 있습니다.
+	 */
+	ElementCodec<String> STRING = new ElementCodec<String>() {
+		@Override
+		public void write(DataOutput out, String value) throws IOException {
+			if (value == null) {
+				out.writeInt(-1);
+				return;
+			}
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+
+		@Override
+		public String read(DataInput in) throws IOException {
+			int length = in.readInt();
+			if (length < 0) {
+				return null;
+			}
+			byte[] bytes = new byte[length];
+			in.readFully(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	};
+
+}
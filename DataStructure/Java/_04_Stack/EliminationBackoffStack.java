@@ -0,0 +1,215 @@
+package _04_Stack;
+
+import java.util.EmptyStackException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import Interface.StackInterface;
+
+/**
+ * 경합이 심한 상황을 위한 소거(elimination) 배열을 가진 lock-free 스택입니다. <br>
+ * 기본 동작은 {@link TreiberStack}과 같이 top 을 CAS 로 바꾸는 것이며,
+ * CAS 가 다른 스레드와의 경합으로 실패한 경우 바로 재시도하는 대신 소거 배열의 임의의 칸(slot)을 방문합니다.
+ * <ul>
+ * <li>push 는 빈 칸에 자신의 노드를 올려두고 잠시 기다립니다.</li>
+ * <li>pop 은 노드가 올려진 칸을 찾으면 그 노드를 가져갑니다.</li>
+ * </ul>
+ * 이렇게 만난 push 와 pop 은 top 을 건드리지 않고 서로 상쇄되므로,
+ * 스레드 수가 많아져도 top 에 대한 경합이 늘어나지 않습니다.
+ * 짝을 찾지 못한 경우에는 다시 top 에 대한 CAS 를 시도합니다.
+ * <p>
+ * top 에 대한 경합을 늘리지 않도록 요소의 개수를 따로 세지 않습니다.
+ * {@link #size()}와 {@link #search(Object)}는 노드를 순회하므로 O(N)이고 동시에 수행되는 변경을 반영하지 못할 수 있습니다.
+ *
+ * @param <E> the type of elements in this Stack
+ *
+ * @author kdgyun (st-lab.tistory.com)
+ * @version 1.0.001
+ * @since 1.2.0
+ * @see StackInterface
+ * @see TreiberStack
+ *
+ */
+
+public class EliminationBackoffStack<E> implements StackInterface<E> {
+
+	/**
+	 * push 가 소거 배열에서 짝을 기다리는 최대 반복 횟수입니다.
+	 */
+	private static final int SPIN_LIMIT = 128;
+
+	private static final class Node<E> {
+		final E data;
+		Node<E> next;
+
+		Node(E data) {
+			this.data = data;
+		}
+	}
+
+	private final AtomicReference<Node<E>> top;
+	private final AtomicReferenceArray<Node<E>> slots;
+
+	public EliminationBackoffStack() {
+		this(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+	}
+
+	/**
+	 * @param eliminationSlots 소거 배열의 칸 수 (1 이상)
+	 */
+	public EliminationBackoffStack(int eliminationSlots) {
+		if (eliminationSlots < 1) {
+			throw new IllegalArgumentException();
+		}
+		this.top = new AtomicReference<Node<E>>();
+		this.slots = new AtomicReferenceArray<Node<E>>(eliminationSlots);
+	}
+
+	private int randomSlot() {
+		return ThreadLocalRandom.current().nextInt(slots.length());
+	}
+
+	/*
+	 * 소거 배열에 노드를 올려두고 pop 을 기다립니다.
+	 * pop 이 노드를 가져갔을 경우 true, 기다리던 노드를 회수했을 경우 false 를 반환합니다.
+	 */
+	private boolean eliminatePush(Node<E> node) {
+		int i = randomSlot();
+		if (!slots.compareAndSet(i, null, node)) {
+			return false;		// 이미 다른 스레드가 사용 중인 칸
+		}
+		for (int spin = 0; spin < SPIN_LIMIT; spin++) {
+			if (slots.get(i) != node) {
+				return true;
+			}
+			Thread.onSpinWait();
+		}
+		// 회수에 실패했다면 그 사이 pop 이 가져간 것
+		return !slots.compareAndSet(i, node, null);
+	}
+
+	/*
+	 * 소거 배열의 임의의 칸에 push 가 올려둔 노드가 있으면 가져옵니다. (없을 경우 null)
+	 */
+	private Node<E> eliminatePop() {
+		int i = randomSlot();
+		Node<E> node = slots.get(i);
+		if (node != null && slots.compareAndSet(i, node, null)) {
+			return node;
+		}
+		return null;
+	}
+
+	@Override
+	public E push(E item) {
+		Node<E> newNode = new Node<E>(item);
+		while (true) {
+			Node<E> oldTop = top.get();
+			newNode.next = oldTop;
+			if (top.compareAndSet(oldTop, newNode)) {
+				return item;
+			}
+			if (eliminatePush(newNode)) {
+				return item;
+			}
+		}
+	}
+
+	/**
+	 * 스택의 맨 위에 있는 요소를 제거하고 반환합니다.
+	 *
+	 * @return 제거된 요소
+	 * @throws EmptyStackException 스택이 비어있을 경우
+	 */
+	@Override
+	public E pop() {
+		Node<E> x = popNode();
+		if (x == null) {
+			throw new EmptyStackException();
+		}
+		return x.data;
+	}
+
+	/**
+	 * 스택의 맨 위에 있는 요소를 제거하고 반환합니다.
+	 *
+	 * @return 제거된 요소, 스택이 비어있을 경우 {@code null}
+	 *         ({@code null} 요소를 넣는 경우 빈 스택과 구분되지 않습니다.)
+	 */
+	public E tryPop() {
+		Node<E> x = popNode();
+		return x == null ? null : x.data;
+	}
+
+	private Node<E> popNode() {
+		while (true) {
+			Node<E> oldTop = top.get();
+			if (oldTop == null) {
+				return null;
+			}
+			if (top.compareAndSet(oldTop, oldTop.next)) {
+				return oldTop;
+			}
+			Node<E> eliminated = eliminatePop();
+			if (eliminated != null) {
+				return eliminated;
+			}
+		}
+	}
+
+	@Override
+	public E peek() {
+		Node<E> t = top.get();
+		if (t == null) {
+			throw new EmptyStackException();
+		}
+		return t.data;
+	}
+
+	/**
+	 * 스택의 상단부터 요소의 위치를 찾습니다. <br>
+	 * 순회하는 동안 다른 스레드가 스택을 변경할 경우 결과는 정확하지 않을 수 있습니다.
+	 */
+	@Override
+	public int search(Object value) {
+		int idx = 1;
+		for (Node<E> x = top.get(); x != null; x = x.next) {
+			if (value == null ? x.data == null : value.equals(x.data)) {
+				return idx;
+			}
+			idx++;
+		}
+		return -1;
+	}
+
+	/**
+	 * 노드를 순회하여 요소의 개수를 셉니다. (O(N)) <br>
+	 * 순회하는 동안 다른 스레드가 스택을 변경할 경우 근사값입니다.
+	 *
+	 * @return 요소의 개수
+	 */
+	@Override
+	public int size() {
+		int count = 0;
+		for (Node<E> x = top.get(); x != null; x = x.next) {
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * 모든 요소를 꺼내어 버립니다. 동시에 추가되는 요소는 남아있을 수 있습니다.
+	 */
+	@Override
+	public void clear() {
+		while (popNode() != null) {
+			// 꺼낸 노드는 버립니다.
+		}
+	}
+
+	@Override
+	public boolean empty() {
+		return top.get() == null;
+	}
+}
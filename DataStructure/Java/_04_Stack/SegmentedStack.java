@@ -0,0 +1,222 @@
+package _04_Stack;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import Interface.StackInterface;
+
+/**
+ * 고정 크기 배열(chunk)들을 연결하여 요소를 저장하는 스택입니다. <br>
+ * {@link Stack}은 용적이 부족할 때 전체 배열을 복사하여 늘리고 요소가 줄면 다시 복사하여 줄이지만,
+ * SegmentedStack 은 맨 위 chunk 가 가득 차면 새 chunk 를 하나 이어 붙이기만 하므로
+ * 요소를 복사하는 일이 없으며 {@link #push(Object)}와 {@link #pop()}은 최악의 경우에도 O(1) 입니다.
+ * <p>
+ * chunk 가 비게 되어도 바로 버리지 않고 맨 위 chunk 의 다음 chunk 로 하나까지 보관해 두므로,
+ * chunk 경계에서 push 와 pop 이 반복되어도 chunk 를 계속 새로 할당하지 않습니다.
+ *
+ * @param <E> the type of elements in this Stack
+ *
+ * @author kdgyun (st-lab.tistory.com)
+ * @version 1.0.001
+ * @since 1.2.0
+ * @see StackInterface
+ * @see Stack
+ *
+ */
+
+public class SegmentedStack<E> implements StackInterface<E>, Cloneable, Iterable<E> {
+
+	private static final int DEFAULT_CHUNK_SIZE = 1024;
+
+	private static final class Chunk {
+		final Object[] items;
+		Chunk prev;		// 아래쪽 chunk
+		Chunk next;		// 위쪽 chunk (맨 위 chunk 의 next 는 보관 중인 빈 chunk 또는 null)
+
+		Chunk(int chunkSize) {
+			this.items = new Object[chunkSize];
+		}
+	}
+
+	private final int chunkSize;
+
+	private Chunk bottom;
+	private Chunk current;		// 맨 위 요소가 있는 chunk
+	private int top;			// current 에 저장된 요소의 개수
+	private int size;
+
+	public SegmentedStack() {
+		this(DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * @param chunkSize chunk 하나에 담을 요소의 개수 (1 이상)
+	 */
+	public SegmentedStack(int chunkSize) {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException();
+		}
+		this.chunkSize = chunkSize;
+		this.bottom = new Chunk(chunkSize);
+		this.current = bottom;
+		this.top = 0;
+		this.size = 0;
+	}
+
+	@Override
+	public E push(E item) {
+		if (top == chunkSize) {
+			Chunk next = current.next;
+			if (next == null) {
+				next = new Chunk(chunkSize);
+				next.prev = current;
+				current.next = next;
+			}
+			current = next;
+			top = 0;
+		}
+		current.items[top++] = item;
+		size++;
+		return item;
+	}
+
+	@Override
+	public E pop() {
+		if (size == 0) {
+			throw new EmptyStackException();
+		}
+		@SuppressWarnings("unchecked")
+		E obj = (E) current.items[--top];
+		current.items[top] = null;
+		size--;
+
+		if (top == 0 && current.prev != null) {
+			// 빈 chunk 는 하나만 남기고 그 위의 chunk 는 버립니다.
+			current.next = null;
+			current = current.prev;
+			top = chunkSize;
+		}
+		return obj;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public E peek() {
+		if (size == 0) {
+			throw new EmptyStackException();
+		}
+		return (E) current.items[top - 1];
+	}
+
+	@Override
+	public int search(Object value) {
+		int idx = 1;
+		Chunk c = current;
+		int i = top - 1;
+		while (c != null) {
+			for (; i >= 0; i--, idx++) {
+				if (value == null ? c.items[i] == null : value.equals(c.items[i])) {
+					return idx;
+				}
+			}
+			c = c.prev;
+			i = chunkSize - 1;
+		}
+		return -1;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * 모든 요소를 삭제합니다. 맨 아래 chunk 와 보관용 chunk 하나만 남깁니다.
+	 */
+	@Override
+	public void clear() {
+		for (Chunk c = bottom; c != null && c != current.next; c = c.next) {
+			Arrays.fill(c.items, null);
+		}
+		if (bottom.next != null) {
+			bottom.next.next = null;
+		}
+		current = bottom;
+		top = 0;
+		size = 0;
+	}
+
+	@Override
+	public boolean empty() {
+		return size == 0;
+	}
+
+	@Override
+	public Object clone() throws CloneNotSupportedException {
+		@SuppressWarnings("unchecked")
+		SegmentedStack<E> cloneStack = (SegmentedStack<E>) super.clone();
+		cloneStack.bottom = new Chunk(chunkSize);
+		cloneStack.current = cloneStack.bottom;
+		cloneStack.top = 0;
+		cloneStack.size = 0;
+		for (E e : this) {
+			cloneStack.push(e);
+		}
+		return cloneStack;
+	}
+
+	/**
+	 * @return 스택의 아래부터 위의 순서로 요소를 담은 배열
+	 */
+	public Object[] toArray() {
+		Object[] array = new Object[size];
+		int idx = 0;
+		for (Chunk c = bottom; idx < size; c = c.next) {
+			int n = (c == current) ? top : chunkSize;
+			System.arraycopy(c.items, 0, array, idx, n);
+			idx += n;
+		}
+		return array;
+	}
+
+	/**
+	 * 스택의 아래부터 위의 순서로 요소를 반환합니다. ({@link Stack}과 같은 순서)
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return new Iter();
+	}
+
+	private class Iter implements Iterator<E> {
+
+		private int now = 0;
+		private Chunk chunk = bottom;
+		private int offset = 0;
+
+		@Override
+		public boolean hasNext() {
+			return now < size;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public E next() {
+			if (now >= size) {
+				throw new NoSuchElementException();
+			}
+			if (offset == chunkSize) {
+				chunk = chunk.next;
+				offset = 0;
+			}
+			now++;
+			return (E) chunk.items[offset++];
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+}
@@ -0,0 +1,415 @@
+package _04_Stack;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+import Interface.StackInterface;
+
+/**
+ * 맨 위의 일부 요소만 메모리에 두고, 오래된(아래쪽) 요소들은 임시 파일로 내보내는(spill) 스택입니다. <br>
+ * 요소는 chunkSize 개 단위의 chunk 로 관리하며, 메모리에는 최대 maxChunks 개의 chunk 만 유지합니다.
+ * 메모리의 chunk 가 모두 찬 상태에서 새 chunk 가 필요하면 가장 아래의 chunk 를 {@link ElementCodec}으로
+ * 직렬화하여 메모리 맵(memory-mapped) 임시 파일의 끝에 씁니다. pop 으로 메모리의 마지막 요소를 꺼낼 때는
+ * 먼저 가장 최근에 내보낸 chunk 를 다시 읽어옵니다.
+ * 파일 입출력에 실패하면 {@link java.io.UncheckedIOException}이 발생하며, 이때 스택의 내용은 바뀌지 않습니다. 파일 역시 스택처럼 끝에서만 쓰고 읽으므로 접근은 항상 순차적입니다.
+ * <p>
+ * 요소의 개수가 메모리 한도(chunkSize * maxChunks) 이내라면 파일을 만들지 않으며 일반적인 배열 스택과 같이 동작합니다.
+ * 메모리의 chunk 를 하나 이상 비워 둔 상태에서만 다시 내보내므로 경계에서 push/pop 이 반복되어도
+ * 파일 입출력이 반복되지 않습니다.
+ * <p>
+ * 사용이 끝나면 {@link #close()}로 임시 파일을 닫아야 합니다.
+ * 매핑된 메모리는 Java 에서 직접 해제할 수 없으므로 close 이후 GC 가 매핑 버퍼를 회수할 때까지 유지됩니다.
+ *
+ * @param <E> the type of elements in this Stack
+ *
+ * @author kdgyun (st-lab.tistory.com)
+ * @version 1.0.001
+ * @since 1.2.0
+ * @see StackInterface
+ * @see ElementCodec
+ * @see SegmentedStack
+ *
+ */
+
+public class SpillingStack<E> implements StackInterface<E>, AutoCloseable {
+
+	private static final int DEFAULT_CHUNK_SIZE = 4096;
+	private static final int DEFAULT_MAX_CHUNKS = 256;
+
+	/**
+	 * 파일을 한 번에 메모리에 매핑하는 구간(segment)의 크기입니다. (64MB)
+	 */
+	private static final int SEGMENT_SHIFT = 26;
+	private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+
+	private final ElementCodec<E> codec;
+	private final int chunkSize;
+	private final int maxChunks;
+
+	/*
+	 * 메모리에 있는 chunk 들을 원형으로 보관합니다.
+	 * chunks[low] 가 가장 아래의 chunk 이며, 그 위로 count 개의 chunk 가 있습니다.
+	 * 맨 위 chunk 를 제외한 chunk 들은 항상 가득 차 있습니다.
+	 */
+	private final Object[][] chunks;
+	private int low;
+	private int count;
+	private int top;		// 맨 위 chunk 에 저장된 요소의 개수
+	private long size;
+
+	/*
+	 * 파일로 내보낸 chunk 들의 시작 위치입니다. spilled 번째 chunk 는 [spillOffsets[spilled-1], fileEnd) 에 있습니다.
+	 */
+	private long[] spillOffsets;
+	private int spilled;
+	private long fileEnd;
+
+	private FileChannel channel;
+	private MappedByteBuffer[] segments;
+
+	private final ByteArrayOutputStream encodeBuffer;
+	private final DataOutputStream encoder;
+
+	/**
+	 * @param codec 요소를 파일에 쓰고 읽을 때 사용할 codec
+	 */
+	public SpillingStack(ElementCodec<E> codec) {
+		this(codec, DEFAULT_CHUNK_SIZE, DEFAULT_MAX_CHUNKS);
+	}
+
+	/**
+	 * @param codec 요소를 파일에 쓰고 읽을 때 사용할 codec
+	 * @param chunkSize chunk 하나에 담을 요소의 개수 (1 이상)
+	 * @param maxChunks 메모리에 유지할 최대 chunk 개수 (2 이상)
+	 */
+	public SpillingStack(ElementCodec<E> codec, int chunkSize, int maxChunks) {
+		if (codec == null) {
+			throw new NullPointerException();
+		}
+		if (chunkSize < 1 || maxChunks < 2) {
+			throw new IllegalArgumentException();
+		}
+		this.codec = codec;
+		this.chunkSize = chunkSize;
+		this.maxChunks = maxChunks;
+		this.chunks = new Object[maxChunks][];
+		this.low = 0;
+		this.count = 0;
+		this.top = 0;
+		this.size = 0;
+		this.spillOffsets = new long[8];
+		this.spilled = 0;
+		this.fileEnd = 0;
+		this.segments = new MappedByteBuffer[0];
+		this.encodeBuffer = new ByteArrayOutputStream();
+		this.encoder = new DataOutputStream(encodeBuffer);
+	}
+
+	/*
+	 * 메모리의 i 번째(아래에서부터) chunk
+	 */
+	private Object[] chunk(int i) {
+		int slot = (low + i) % maxChunks;
+		Object[] c = chunks[slot];
+		if (c == null) {
+			c = new Object[chunkSize];
+			chunks[slot] = c;
+		}
+		return c;
+	}
+
+	@Override
+	public E push(E item) {
+		if (count == 0) {
+			count = 1;
+			top = 0;
+		} else if (top == chunkSize) {
+			if (count == maxChunks) {
+				spill();
+			}
+			count++;
+			top = 0;
+		}
+		chunk(count - 1)[top++] = item;
+		size++;
+		return item;
+	}
+
+	@Override
+	public E pop() {
+		if (size == 0) {
+			throw new EmptyStackException();
+		}
+		if (top == 1 && count == 1 && spilled > 0) {
+			// 마지막 요소를 꺼내기 전에 읽어와, 읽기에 실패하더라도 스택이 바뀌지 않도록 합니다.
+			pageIn();
+		}
+		Object[] c = chunk(count - 1);
+		@SuppressWarnings("unchecked")
+		E obj = (E) c[--top];
+		c[top] = null;
+		size--;
+
+		if (top == 0) {
+			count--;
+			if (count > 0) {
+				top = chunkSize;
+			}
+		}
+		return obj;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public E peek() {
+		if (size == 0) {
+			throw new EmptyStackException();
+		}
+		return (E) chunk(count - 1)[top - 1];
+	}
+
+	/*
+	 * 메모리의 가장 아래 chunk 를 파일의 끝에 씁니다.
+	 * 쓰기에 성공한 뒤에만 상태를 바꾸므로, 실패할 경우 스택은 그대로 남습니다.
+	 */
+	private void spill() {
+		Object[] c = chunk(0);
+		byte[] bytes = encode(c);
+		if (spilled == spillOffsets.length) {
+			spillOffsets = Arrays.copyOf(spillOffsets, spilled << 1);
+		}
+		write(fileEnd, bytes);
+
+		spillOffsets[spilled++] = fileEnd;
+		fileEnd += bytes.length;
+		Arrays.fill(c, null);
+		low = (low + 1) % maxChunks;
+		count--;
+	}
+
+	/*
+	 * 가장 최근에 내보낸 chunk 를 읽어 메모리의 가장 아래 chunk 아래에 둡니다. (메모리에 chunk 가 하나뿐일 때 호출)
+	 * 읽기와 복원에 성공한 뒤에만 상태를 바꾸므로, 실패할 경우 스택은 그대로 남습니다.
+	 */
+	private void pageIn() {
+		long start = spillOffsets[spilled - 1];
+		byte[] bytes = new byte[(int) (fileEnd - start)];
+		read(start, bytes);
+
+		int slot = (low + maxChunks - 1) % maxChunks;
+		Object[] c = chunks[slot];
+		if (c == null) {
+			c = new Object[chunkSize];
+			chunks[slot] = c;
+		}
+		try {
+			decode(bytes, c);
+		} catch (RuntimeException e) {
+			Arrays.fill(c, null);
+			throw e;
+		}
+
+		spilled--;
+		fileEnd = start;
+		low = slot;
+		count++;
+	}
+
+	@SuppressWarnings("unchecked")
+	private byte[] encode(Object[] c) {
+		encodeBuffer.reset();
+		try {
+			for (int i = 0; i < chunkSize; i++) {
+				codec.write(encoder, (E) c[i]);
+			}
+			encoder.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return encodeBuffer.toByteArray();
+	}
+
+	private void decode(byte[] bytes, Object[] c) {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+		try {
+			for (int i = 0; i < chunkSize; i++) {
+				c[i] = codec.read(in);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/*
+	 * 파일의 pos 위치를 포함하는 segment 를 반환합니다. 필요할 경우 새로 매핑합니다. (파일도 함께 늘어납니다)
+	 */
+	private MappedByteBuffer segment(long pos) throws IOException {
+		int index = (int) (pos >>> SEGMENT_SHIFT);
+		if (index >= segments.length) {
+			segments = Arrays.copyOf(segments, Math.max(index + 1, segments.length << 1));
+		}
+		MappedByteBuffer seg = segments[index];
+		if (seg == null) {
+			if (channel == null) {
+				Path file = Files.createTempFile("spilling-stack", ".tmp");
+				channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+						StandardOpenOption.DELETE_ON_CLOSE);
+			}
+			seg = channel.map(FileChannel.MapMode.READ_WRITE, (long) index << SEGMENT_SHIFT, SEGMENT_SIZE);
+			segments[index] = seg;
+		}
+		return seg;
+	}
+
+	/*
+	 * segment 의 position 을 바꾸지 않도록 duplicate 한 버퍼로 읽고 씁니다.
+	 */
+	private void write(long pos, byte[] bytes) {
+		try {
+			int off = 0;
+			while (off < bytes.length) {
+				int segOffset = (int) (pos & (SEGMENT_SIZE - 1));
+				int n = Math.min(bytes.length - off, SEGMENT_SIZE - segOffset);
+				ByteBuffer buf = segment(pos).duplicate();
+				buf.position(segOffset);
+				buf.put(bytes, off, n);
+				off += n;
+				pos += n;
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void read(long pos, byte[] bytes) {
+		try {
+			int off = 0;
+			while (off < bytes.length) {
+				int segOffset = (int) (pos & (SEGMENT_SIZE - 1));
+				int n = Math.min(bytes.length - off, SEGMENT_SIZE - segOffset);
+				ByteBuffer buf = segment(pos).duplicate();
+				buf.position(segOffset);
+				buf.get(bytes, off, n);
+				off += n;
+				pos += n;
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 스택의 상단부터 요소의 위치를 찾습니다. <br>
+	 * 메모리에서 찾지 못한 경우 파일로 내보낸 chunk 들을 차례로 읽어 확인하므로 느릴 수 있습니다.
+	 * 위치가 int 범위를 넘는 경우 -1 을 반환합니다.
+	 */
+	@Override
+	public int search(Object value) {
+		long idx = 1;
+		for (int i = count - 1; i >= 0; i--) {
+			Object[] c = chunk(i);
+			for (int j = (i == count - 1 ? top : chunkSize) - 1; j >= 0; j--, idx++) {
+				if (value == null ? c[j] == null : value.equals(c[j])) {
+					return idx > Integer.MAX_VALUE ? -1 : (int) idx;
+				}
+			}
+		}
+		Object[] c = new Object[chunkSize];
+		long end = fileEnd;
+		for (int k = spilled - 1; k >= 0 && idx <= Integer.MAX_VALUE; k--) {
+			long start = spillOffsets[k];
+			byte[] bytes = new byte[(int) (end - start)];
+			read(start, bytes);
+			decode(bytes, c);
+			for (int j = chunkSize - 1; j >= 0; j--, idx++) {
+				if (value == null ? c[j] == null : value.equals(c[j])) {
+					return idx > Integer.MAX_VALUE ? -1 : (int) idx;
+				}
+			}
+			end = start;
+		}
+		return -1;
+	}
+
+	/**
+	 * @return 요소의 개수, int 범위를 넘는 경우 {@code Integer.MAX_VALUE}
+	 */
+	@Override
+	public int size() {
+		return (int) Math.min(size, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @return 요소의 개수
+	 */
+	public long longSize() {
+		return size;
+	}
+
+	/**
+	 * @return 파일로 내보낸 요소의 개수
+	 */
+	public long spilledSize() {
+		return (long) spilled * chunkSize;
+	}
+
+	/**
+	 * 모든 요소를 삭제합니다. 임시 파일은 {@link #close()} 전까지 다음 사용을 위해 유지됩니다.
+	 */
+	@Override
+	public void clear() {
+		for (Object[] c : chunks) {
+			if (c != null) {
+				Arrays.fill(c, null);
+			}
+		}
+		low = 0;
+		count = 0;
+		top = 0;
+		size = 0;
+		spilled = 0;
+		fileEnd = 0;
+	}
+
+	@Override
+	public boolean empty() {
+		return size == 0;
+	}
+
+	/**
+	 * 모든 요소를 삭제하고 임시 파일을 닫습니다.
+	 * 이후 다시 사용할 경우 필요할 때 새 임시 파일을 만듭니다.
+	 * <p>
+	 * 파일은 {@link StandardOpenOption#DELETE_ON_CLOSE}로 열었으므로 채널을 닫을 때 삭제됩니다.
+	 * 매핑된 segment 들은 직접 해제할 수 없어 참조만 끊으며, 실제 매핑은 GC 가 버퍼를 회수할 때 해제됩니다.
+	 * 그 전까지는 파일의 디스크 공간이 반환되지 않을 수 있으며, 매핑된 파일을 삭제할 수 없는 OS(Windows 등)에서는
+	 * 파일이 남을 수 있습니다.
+	 */
+	@Override
+	public void close() {
+		clear();
+		// 매핑 해제는 GC 에 맡기고 참조만 끊습니다.
+		segments = new MappedByteBuffer[0];
+		if (channel != null) {
+			try {
+				channel.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			} finally {
+				channel = null;
+			}
+		}
+	}
+}
@@ -6,6 +6,7 @@ import java.util.EmptyStackException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
+import Interface.GrowthPolicy;
 import Interface.StackInterface;
 
 /**
@@ -35,34 +36,55 @@ public class Stack<E> implements StackInterface<E>, Cloneable, Iterable<E> {
      */
 	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
 
-	private static final int DEFAULT_CAPACITY = 10;	
 	private static final Object[] EMPTY_ARRAY = {};	
 	
 	private Object[] array;	
 	private int size;	
 	
+	/**
+	 * @since 1.2.0
+	 * 용적의 확장/축소 정책
+	 */
+	private final GrowthPolicy policy;
+	
 	public Stack() {
+		this(GrowthPolicy.DEFAULT);
+	}
+	
+	public Stack(int capacity) {
+		this(capacity, GrowthPolicy.DEFAULT);
+	}
+	
+	public Stack(GrowthPolicy policy) {
+		if(policy == null) {
+			throw new NullPointerException();
+		}
 		this.array = EMPTY_ARRAY;
 		this.size = 0;
+		this.policy = policy;
 	}
 	
-	public Stack(int capacity) {
+	public Stack(int capacity, GrowthPolicy policy) {
 		if(capacity < 0) {
 			throw new IllegalArgumentException();
 		}
+		if(policy == null) {
+			throw new NullPointerException();
+		}
 		if(capacity == 0) {
 			array = EMPTY_ARRAY;
 		} else {
 			array = new Object[capacity];
 		}
 		this.size = 0;
+		this.policy = policy;
 	}
 	
 	
  
 	private void resize() {
 		if(Arrays.equals(array, EMPTY_ARRAY)) {
-			array = new Object[DEFAULT_CAPACITY];
+			array = new Object[policy.minCapacity()];
 			return;
 		}
 		
@@ -70,18 +92,50 @@ public class Stack<E> implements StackInterface<E>, Cloneable, Iterable<E> {
 		
 		if(size == arrayCapacity) {
 			// default growing 1.5x
-			int newSize = hugeRangeCheck(arrayCapacity, arrayCapacity + arrayCapacity << 1);
+			int newSize = hugeRangeCheck(arrayCapacity, policy.grow(arrayCapacity));
 			array = Arrays.copyOf(array, newSize);
 			return;
 		}
 		
-		if(size < (arrayCapacity / 2)) {
-			int newCapacity = (arrayCapacity / 2);
-			array = Arrays.copyOf(array, Math.max(DEFAULT_CAPACITY, newCapacity));
+		// default: shrink to half when less than a quarter full
+		int newCapacity = policy.shrink(arrayCapacity, size);
+		if(newCapacity < arrayCapacity) {
+			array = Arrays.copyOf(array, Math.max(newCapacity, size));
 			return;
 		}
 	}
 	
+	/**
+	 * 최소 minCapacity 개의 요소를 재할당 없이 담을 수 있도록 용적을 미리 확보합니다. <br>
+	 * 이후 요소를 꺼낼 때에는 정책에 따라 다시 축소될 수 있습니다.
+	 * 
+	 * @since 1.2.0
+	 * @param minCapacity 확보할 최소 용적
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if(minCapacity > MAX_ARRAY_SIZE) {
+			throw new OutOfMemoryError("Required stack size too large");
+		}
+		if(minCapacity > array.length) {
+			int newCapacity = Math.max(policy.minCapacity(), policy.grow(array.length));
+			if(newCapacity < minCapacity || newCapacity > MAX_ARRAY_SIZE) {
+				newCapacity = minCapacity;
+			}
+			array = Arrays.copyOf(array, newCapacity);
+		}
+	}
+	
+	/**
+	 * 용적을 현재 요소 개수에 맞게 줄입니다.
+	 * 
+	 * @since 1.2.0
+	 */
+	public void trimToSize() {
+		if(size < array.length) {
+			array = (size == 0) ? EMPTY_ARRAY : Arrays.copyOf(array, size);
+		}
+	}
+	
 	/**
 	 * resizing 할 때 overflow를 방지하기 위한 체크 함수입니다.
 	 * 용적은 {@link #MAX_ARRAY_SIZE}를 초과 할 수 없습니다.
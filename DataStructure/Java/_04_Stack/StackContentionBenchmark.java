@@ -0,0 +1,102 @@
+package _04_Stack;
+
+import java.util.concurrent.CountDownLatch;
+
+import Interface.StackInterface;
+
+/**
+ * 여러 스레드가 동시에 push/pop 할 때의 처리량을 비교하는 간단한 벤치마크입니다. <br>
+ * 각 스레드는 push 한 뒤 바로 pop 하는 것을 반복하며, 다음 스택들을 차례로 측정합니다.
+ * <ul>
+ * <li>{@link Stack} 을 하나의 잠금(synchronized)으로 감싼 것</li>
+ * <li>{@link TreiberStack}</li>
+ * <li>{@link EliminationBackoffStack}</li>
+ * </ul>
+ * 각 스레드는 자신이 push 한 뒤에만 pop 하므로 pop 할 때 스택이 비어있는 경우는 없습니다.
+ * <p>
+ * 사용법: {@code java _04_Stack.StackContentionBenchmark [스레드 수] [스레드당 반복 횟수]} <br>
+ * JIT 컴파일이 끝나도록 같은 측정을 몇 번 반복하며, 마지막 회차의 결과를 비교하는 것이 좋습니다.
+ *
+ * @author kdgyun (st-lab.tistory.com)
+ * @version 1.0.001
+ * @since 1.2.0
+ * @see EliminationBackoffStack
+ * @see TreiberStack
+ * @see Stack
+ *
+ */
+
+public class StackContentionBenchmark {
+
+	private static final int ROUNDS = 5;
+
+	public static void main(String[] args) throws InterruptedException {
+		int threads = (args.length > 0) ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+		int ops = (args.length > 1) ? Integer.parseInt(args[1]) : 1_000_000;
+
+		System.out.println("threads = " + threads + ", push/pop pairs per thread = " + ops);
+		for (int round = 1; round <= ROUNDS; round++) {
+			Stack<Integer> locked = new Stack<Integer>();
+			long lockedNanos = run(locked, locked, threads, ops);
+			long treiberNanos = run(new TreiberStack<Integer>(), null, threads, ops);
+			long eliminationNanos = run(new EliminationBackoffStack<Integer>(), null, threads, ops);
+
+			System.out.println("round " + round);
+			print("synchronized Stack", lockedNanos, threads, ops);
+			print("TreiberStack", treiberNanos, threads, ops);
+			print("EliminationBackoffStack", eliminationNanos, threads, ops);
+		}
+	}
+
+	/*
+	 * 모든 스레드가 동시에 시작하도록 한 뒤 끝날 때까지 걸린 시간(ns)을 반환합니다.
+	 * lock 이 null 이 아닐 경우 push 와 pop 을 각각 lock 으로 동기화합니다.
+	 */
+	private static long run(StackInterface<Integer> stack, Object lock, int threads, int ops)
+			throws InterruptedException {
+		CountDownLatch ready = new CountDownLatch(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		Thread[] workers = new Thread[threads];
+
+		for (int t = 0; t < threads; t++) {
+			workers[t] = new Thread(() -> {
+				ready.countDown();
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				for (int i = 0; i < ops; i++) {
+					Integer value = i;
+					if (lock == null) {
+						stack.push(value);
+						stack.pop();
+					} else {
+						synchronized (lock) {
+							stack.push(value);
+						}
+						synchronized (lock) {
+							stack.pop();
+						}
+					}
+				}
+			});
+			workers[t].start();
+		}
+
+		ready.await();
+		long begin = System.nanoTime();
+		start.countDown();
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		return System.nanoTime() - begin;
+	}
+
+	private static void print(String name, long nanos, int threads, int ops) {
+		double millis = nanos / 1_000_000.0;
+		double opsPerMs = (2.0 * threads * ops) / millis;
+		System.out.printf("  %-24s %10.1f ms %12.0f ops/ms%n", name, millis, opsPerMs);
+	}
+}
@@ -0,0 +1,152 @@
+package _04_Stack;
+
+import java.util.EmptyStackException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import Interface.StackInterface;
+
+/**
+ * 여러 스레드가 잠금 없이 동시에 사용할 수 있는 스택(Treiber stack)입니다. <br>
+ * 요소를 연결 리스트로 저장하며, 스택의 맨 위(top)를 CAS 로 바꾸는 방식으로
+ * {@link #push(Object)}와 {@link #pop()}을 수행합니다. (lock-free)
+ * <p>
+ * 꺼낸 노드는 재사용하지 않으므로 ABA 문제가 생기지 않으며,
+ * 노드의 요소는 final 이므로 top 을 읽은 스레드는 별도의 동기화 없이 요소를 읽을 수 있습니다.
+ * <p>
+ * 모든 스레드가 경합하는 단일 변수는 top 하나 뿐입니다. 따라서 요소의 개수를 따로 세지 않으며,
+ * {@link #size()}와 {@link #search(Object)}는 노드를 순회하므로 O(N)이고
+ * 동시에 수행되는 변경을 반영하지 못할 수 있습니다.
+ *
+ * @param <E> the type of elements in this Stack
+ *
+ * @author kdgyun (st-lab.tistory.com)
+ * @version 1.0.001
+ * @since 1.2.0
+ * @see StackInterface
+ * @see Stack
+ *
+ */
+
+public class TreiberStack<E> implements StackInterface<E> {
+
+	private static final class Node<E> {
+		final E data;
+		Node<E> next;
+
+		Node(E data) {
+			this.data = data;
+		}
+	}
+
+	private final AtomicReference<Node<E>> top;
+
+	public TreiberStack() {
+		this.top = new AtomicReference<Node<E>>();
+	}
+
+	@Override
+	public E push(E item) {
+		Node<E> newNode = new Node<E>(item);
+		Node<E> oldTop;
+		do {
+			oldTop = top.get();
+			newNode.next = oldTop;
+		} while (!top.compareAndSet(oldTop, newNode));
+		return item;
+	}
+
+	/**
+	 * 스택의 맨 위에 있는 요소를 제거하고 반환합니다.
+	 *
+	 * @return 제거된 요소
+	 * @throws EmptyStackException 스택이 비어있을 경우
+	 */
+	@Override
+	public E pop() {
+		Node<E> x = popNode();
+		if (x == null) {
+			throw new EmptyStackException();
+		}
+		return x.data;
+	}
+
+	/**
+	 * 스택의 맨 위에 있는 요소를 제거하고 반환합니다.
+	 * 여러 스레드가 함께 사용하는 경우 {@link #empty()} 확인 후 {@link #pop()} 하는 대신 사용합니다.
+	 *
+	 * @return 제거된 요소, 스택이 비어있을 경우 {@code null}
+	 *         ({@code null} 요소를 넣는 경우 빈 스택과 구분되지 않습니다.)
+	 */
+	public E tryPop() {
+		Node<E> x = popNode();
+		return x == null ? null : x.data;
+	}
+
+	/*
+	 * top 노드를 떼어내어 반환합니다. 스택이 비어있을 경우 null 을 반환합니다.
+	 * 떼어낸 노드의 next 는 그대로 두어, 동시에 순회 중인 search/size 가 끊기지 않게 합니다.
+	 */
+	private Node<E> popNode() {
+		Node<E> oldTop;
+		do {
+			oldTop = top.get();
+			if (oldTop == null) {
+				return null;
+			}
+		} while (!top.compareAndSet(oldTop, oldTop.next));
+		return oldTop;
+	}
+
+	@Override
+	public E peek() {
+		Node<E> t = top.get();
+		if (t == null) {
+			throw new EmptyStackException();
+		}
+		return t.data;
+	}
+
+	/**
+	 * 스택의 상단부터 요소의 위치를 찾습니다. <br>
+	 * 순회하는 동안 다른 스레드가 스택을 변경할 경우 결과는 정확하지 않을 수 있습니다.
+	 */
+	@Override
+	public int search(Object value) {
+		int idx = 1;
+		for (Node<E> x = top.get(); x != null; x = x.next) {
+			if (value == null ? x.data == null : value.equals(x.data)) {
+				return idx;
+			}
+			idx++;
+		}
+		return -1;
+	}
+
+	/**
+	 * 노드를 순회하여 요소의 개수를 셉니다. (O(N)) <br>
+	 * 순회하는 동안 다른 스레드가 스택을 변경할 경우 근사값입니다.
+	 *
+	 * @return 요소의 개수
+	 */
+	@Override
+	public int size() {
+		int count = 0;
+		for (Node<E> x = top.get(); x != null; x = x.next) {
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * 모든 요소를 버립니다. 동시에 추가되는 요소는 남아있을 수 있습니다.
+	 */
+	@Override
+	public void clear() {
+		top.set(null);
+	}
+
+	@Override
+	public boolean empty() {
+		return top.get() == null;
+	}
+}
@@ -2,7 +2,6 @@ package _06_LinkedListQueue;
 
 import Interface.Queue;
 
-import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
@@ -24,16 +23,75 @@ public class LinkedListQueue<E> implements Queue<E>, Iterable<E>, Cloneable {
 	private Node<E> tail;
 	private int size;
 
+	// poll 과 clear 에서 꺼낸 노드들 (next 로 연결)
+	private Node<E> nodePool;
+	private int nodePoolSize;
+	private int nodePoolCapacity;
+	private long allocatedNodes;
+
 	public LinkedListQueue() {
 		this.head = null;
 		this.tail = null;
 		this.size = 0;
 	}
 
+	/**
+	 * {@link #poll()}({@link #remove()} 포함)과 {@link #clear()}에서 꺼낸 노드를 최대 capacity 개 까지 보관하였다가
+	 * {@link #offer(Object)}에서 재사용합니다. offer 와 poll 이 번갈아 일어나는 큐에서는
+	 * 보관된 노드가 바로 다시 쓰이므로 새 노드를 거의 할당하지 않습니다.
+	 * capacity 가 0 일 경우(기본값) 보관 중이던 노드도 해제됩니다.
+	 * 
+	 * @since 1.2.0
+	 * @param capacity 보관할 최대 노드 개수
+	 */
+	public void setNodePoolCapacity(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException();
+		}
+		nodePoolCapacity = capacity;
+		while (nodePoolSize > capacity) {
+			Node<E> x = nodePool;
+			nodePool = x.next;
+			x.next = null;
+			nodePoolSize--;
+		}
+	}
+
+	/**
+	 * @since 1.2.0
+	 * @return 지금까지 새로 할당한 노드의 개수
+	 */
+	public long allocatedNodeCount() {
+		return allocatedNodes;
+	}
+
+	private Node<E> obtainNode(E value) {
+		Node<E> x = nodePool;
+		if (x == null) {
+			allocatedNodes++;
+			return new Node<E>(value);
+		}
+		nodePool = x.next;
+		nodePoolSize--;
+		x.next = null;
+		x.data = value;
+		return x;
+	}
+
+	private void recycleNode(Node<E> x) {
+		x.data = null;
+		x.next = null;
+		if (nodePoolSize < nodePoolCapacity) {
+			x.next = nodePool;
+			nodePool = x;
+			nodePoolSize++;
+		}
+	}
+
 	@Override
 	public boolean offer(E value) {
 
-		Node<E> newNode = new Node<E>(value);
+		Node<E> newNode = obtainNode(value);
 
 		if (size == 0) {
 			head = newNode;
@@ -55,10 +113,12 @@ public class LinkedListQueue<E> implements Queue<E>, Iterable<E>, Cloneable {
 		E element = head.data;
 		Node<E> nextNode = head.next;
 
-		head.data = null;
-		head.next = null;
+		recycleNode(head);
 		head = nextNode;
 		size--;
+		if (size == 0) {
+			tail = null;
+		}
 
 		return element;
 	}
@@ -112,8 +172,7 @@ public class LinkedListQueue<E> implements Queue<E>, Iterable<E>, Cloneable {
 		for (Node<E> x = head; x != null;) {
 
 			Node<E> next = x.next;
-			x.data = null;
-			x.next = null;
+			recycleNode(x);
 			x = next;
 		}
 		size = 0;
@@ -153,6 +212,9 @@ public class LinkedListQueue<E> implements Queue<E>, Iterable<E>, Cloneable {
 			clone.head = null;
 			clone.tail = null;
 			clone.size = 0;
+			clone.nodePool = null;
+			clone.nodePoolSize = 0;
+			clone.allocatedNodes = 0;
 
 			for (Node<E> x = head; x != null; x = x.next) {
 				clone.offer(x.data);
@@ -168,16 +230,76 @@ public class LinkedListQueue<E> implements Queue<E>, Iterable<E>, Cloneable {
 		sort(null);
 	}
 
+	/**
+	 * 큐에 들어있는 요소들의 대기 순서를 정렬합니다. <br>
+	 * 정렬 후에는 {@link #poll()}이 가장 작은 요소부터 반환하며, 값이 같은 요소들은 먼저 들어온 순서를 유지합니다.
+	 * 정렬 이후에 {@link #offer(Object)}로 추가한 요소는 값과 관계없이 맨 뒤에 들어갑니다. (우선순위 큐가 되는 것은 아닙니다)
+	 * <p>
+	 * 기존 노드들의 연결만 바꾸는 bottom-up 병합 정렬로 O(N log N) 시간과 O(1) 추가 공간을 사용합니다.
+	 * 
+	 * @param c 비교 기준, {@code null}일 경우 요소의 자연 순서를 따릅니다.
+	 */
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public void sort(Comparator<? super E> c) {
-		Object[] a = this.toArray();
-		Arrays.sort(a, (Comparator) c);
+		if (size < 2) {
+			return;
+		}
+		Comparator<? super E> cmp = (c != null) ? c : (Comparator) Comparator.naturalOrder();
+		Node<E> dummy = new Node<E>(null);
+		dummy.next = head;
+		Node<E> last = tail;
+
+		for (int width = 1; width < size; width <<= 1) {
+			Node<E> merged = dummy;
+			Node<E> rest = dummy.next;
+			while (rest != null) {
+				Node<E> left = rest;
+				Node<E> right = cut(left, width);
+				rest = cut(right, width);
+				merged = merge(left, right, merged, cmp);
+			}
+			last = merged;
+		}
+		head = dummy.next;
+		tail = last;
+		dummy.next = null;
+	}
 
-		Iter it = (LinkedListQueue<E>.Iter) this.iterator();
-		for(Object e : a) {
-			it.next();
-			it.set((E) e);
+	/*
+	 * x 부터 n 개의 노드를 남기고 연결을 끊은 뒤, 나머지 부분의 첫 노드를 반환합니다.
+	 */
+	private static <E> Node<E> cut(Node<E> x, int n) {
+		for (int i = 1; x != null && i < n; i++) {
+			x = x.next;
+		}
+		if (x == null) {
+			return null;
+		}
+		Node<E> rest = x.next;
+		x.next = null;
+		return rest;
+	}
+
+	/*
+	 * 정렬된 두 연결 a, b 를 병합하여 to 뒤에 연결하고, 병합된 연결의 마지막 노드를 반환합니다.
+	 * 값이 같을 경우 a (앞쪽에 대기 중이던 노드)를 먼저 연결하여 대기 순서를 유지합니다.
+	 */
+	private static <E> Node<E> merge(Node<E> a, Node<E> b, Node<E> to, Comparator<? super E> cmp) {
+		while (a != null && b != null) {
+			if (cmp.compare(b.data, a.data) < 0) {
+				to.next = b;
+				b = b.next;
+			} else {
+				to.next = a;
+				a = a.next;
+			}
+			to = to.next;
+		}
+		to.next = (a != null) ? a : b;
+		while (to.next != null) {
+			to = to.next;
 		}
+		return to;
 	}
 	
 	@Override
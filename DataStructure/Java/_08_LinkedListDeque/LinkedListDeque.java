@@ -25,14 +25,73 @@ public class LinkedListDeque<E> implements Deque<E>, Cloneable, Iterable<E> {
 	private Node<E> tail;
 	private int size;
 
+	// pollFirst, pollLast 와 clear 에서 꺼낸 노드들 (next 로 연결)
+	private Node<E> nodePool;
+	private int nodePoolSize;
+	private int nodePoolCapacity;
+	private long allocatedNodes;
+
 	public LinkedListDeque() {
 		head = null;
 		tail = null;
 		size = 0;
 	}
+
+	/**
+	 * 양 끝의 poll/remove 계열 메소드와 {@link #clear()}에서 꺼낸 노드를 최대 capacity 개 까지 보관하였다가
+	 * {@link #offerFirst(Object)}, {@link #offerLast(Object)}에서 재사용합니다.
+	 * capacity 가 0 일 경우(기본값) 보관 중이던 노드도 해제됩니다.
+	 * 
+	 * @since 1.2.0
+	 * @param capacity 보관할 최대 노드 개수
+	 */
+	public void setNodePoolCapacity(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException();
+		}
+		nodePoolCapacity = capacity;
+		while (nodePoolSize > capacity) {
+			Node<E> x = nodePool;
+			nodePool = x.next;
+			x.next = null;
+			nodePoolSize--;
+		}
+	}
+
+	/**
+	 * @since 1.2.0
+	 * @return 지금까지 새로 할당한 노드의 개수
+	 */
+	public long allocatedNodeCount() {
+		return allocatedNodes;
+	}
+
+	private Node<E> obtainNode(E value) {
+		Node<E> x = nodePool;
+		if (x == null) {
+			allocatedNodes++;
+			return new Node<E>(value);
+		}
+		nodePool = x.next;
+		nodePoolSize--;
+		x.next = null;
+		x.data = value;
+		return x;
+	}
+
+	private void recycleNode(Node<E> x) {
+		x.data = null;
+		x.next = null;
+		x.prev = null;
+		if (nodePoolSize < nodePoolCapacity) {
+			x.next = nodePool;
+			nodePool = x;
+			nodePoolSize++;
+		}
+	}
 	
 	public boolean offerFirst(E value) {	
-		Node<E> newNode = new Node<E>(value);
+		Node<E> newNode = obtainNode(value);
 		newNode.next = head;	
 		if (head != null) {
 			head.prev = newNode;
@@ -57,7 +116,7 @@ public class LinkedListDeque<E> implements Deque<E>, Cloneable, Iterable<E> {
 			return offerFirst(value);
 		}
 
-		Node<E> newNode = new Node<E>(value);		
+		Node<E> newNode = obtainNode(value);		
 		tail.next = newNode; 
 		newNode.prev = tail; 
 		tail = newNode; 
@@ -77,8 +136,7 @@ public class LinkedListDeque<E> implements Deque<E>, Cloneable, Iterable<E> {
 		E element = head.data;
 		Node<E> nextNode = head.next;
 
-		head.data = null;
-		head.next = null;
+		recycleNode(head);
 		
 		if (nextNode != null) {
 			nextNode.prev = null;
@@ -114,8 +172,7 @@ public class LinkedListDeque<E> implements Deque<E>, Cloneable, Iterable<E> {
 		E element = tail.data;	
 		Node<E> prevNode = tail.prev;
 		
-		tail.data = null;
-		tail.prev = null;
+		recycleNode(tail);
 		
 		if (prevNode != null) {
 			prevNode.next = null;
@@ -205,9 +262,7 @@ public class LinkedListDeque<E> implements Deque<E>, Cloneable, Iterable<E> {
 		for (Node<E> x = head; x != null;) {
 			Node<E> next = x.next;
 
-			x.data = null;
-			x.next = null;
-			x.prev = null;
+			recycleNode(x);
 			x = next;
 		}
 		size = 0;
@@ -245,6 +300,9 @@ public class LinkedListDeque<E> implements Deque<E>, Cloneable, Iterable<E> {
 			clone.head = null;
 			clone.tail = null;
 			clone.size = 0;
+			clone.nodePool = null;
+			clone.nodePoolSize = 0;
+			clone.allocatedNodes = 0;
 
 			for(Node<E> x = head; x != null; x = x.next) {
 				clone.offerLast(x.data);
@@ -260,6 +318,14 @@ public class LinkedListDeque<E> implements Deque<E>, Cloneable, Iterable<E> {
 		sort(null);
 	}
 
+	/**
+	 * 덱의 요소들을 앞(head)에서 뒤(tail) 방향으로 정렬합니다. <br>
+	 * 정렬 후에는 {@link #pollFirst()}가 가장 작은 요소를, {@link #pollLast()}가 가장 큰 요소를 반환하며,
+	 * 값이 같은 요소들은 앞뒤 순서를 유지합니다.
+	 * 요소를 배열로 복사하여 정렬한 뒤 기존 노드들에 앞에서부터 다시 기록하므로 노드의 연결은 바뀌지 않습니다.
+	 * 
+	 * @param c 비교 기준, {@code null}일 경우 요소의 자연 순서를 따릅니다.
+	 */
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public void sort(Comparator<? super E> c) {
 		Object[] a = this.toArray();